@@ -0,0 +1,134 @@
+package cl.ejercicio.java;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compara el modo de hilos de plataforma contra el de hilos virtuales levantando la aplicación
+ * completa en un puerto aleatorio y atendiendo {@code threads} clientes concurrentes.
+ * <ul>
+ *     <li>{@code batchLookup}: consulta por lotes autenticada (JWT + 3 consultas JDBC).</li>
+ *     <li>{@code login}: BCrypt más la escritura de {@code lastLogin} y del token.</li>
+ * </ul>
+ * El limitador de concurrencia y el plazo por solicitud se desactivan: con ellos, los 64 clientes
+ * recibirían 503/504 en lugar de medir el modo de hilos. Cada modo corre en su propio fork. Para ver la cola del semáforo de conexiones y los hilos
+ * fijados, revisar el log de la aplicación ({@code -p mode=virtual}).
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Djmh.args="ThreadingModeBenchmark -t 64"</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(64)
+@Fork(1)
+public class ThreadingModeBenchmark {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\":\"([^\"]+)\"");
+    private static final String EMAIL = "bench@email.com";
+    private static final String PASSWORD = "Password123!";
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, InterruptedException {
+        // Argumentos de línea de comandos: a diferencia de properties(...), prevalecen sobre application.yml
+        context = new SpringApplicationBuilder(EjercicioJavaApplication.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + "virtual".equals(mode),
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework=WARN",
+                        "--logging.level.org.springframework.web=WARN",
+                        "--logging.level.org.springframework.security=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql=WARN",
+                        "--logging.level.cl.ejercicio.java=WARN",
+                        "--cache.user-response.enabled=false",
+                        // Se mide el modo de hilos, no el rechazo: sin 503 del limitador ni 504 del plazo
+                        "--concurrency-limit.enabled=false",
+                        "--deadline.enabled=false");
+        if (Threading.VIRTUAL.isActive(context.getEnvironment()) != "virtual".equals(mode)) {
+            throw new IllegalStateException("La aplicación no arrancó en modo " + mode);
+        }
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port + "/api/v1";
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        post("/auth/register", null, """
+                {"name":"Bench","email":"%s","password":"%s","phones":[{"number":"1234567","cityCode":"1","countryCode":"57"}],"roles":["ROLE_USER"]}"""
+                .formatted(EMAIL, PASSWORD));
+        Matcher matcher = TOKEN.matcher(post("/auth/login", null, loginBody()).body());
+        if (!matcher.find()) {
+            throw new IllegalStateException("No se obtuvo token de login");
+        }
+        token = matcher.group(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int batchLookup() throws IOException, InterruptedException {
+        return post("/users/batch", token, """
+                {"emails":["%s","admin@admin.com","user@user.com","missing@email.com"]}""".formatted(EMAIL)).statusCode();
+    }
+
+    @Benchmark
+    public int login() throws IOException, InterruptedException {
+        return post("/auth/login", null, loginBody()).statusCode();
+    }
+
+    private static String loginBody() {
+        return """
+                {"email":"%s","password":"%s"}""".formatted(EMAIL, PASSWORD);
+    }
+
+    private HttpResponse<String> post(String path, String bearer, String body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (bearer != null) {
+            request.header("Authorization", "Bearer " + bearer);
+        }
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(path + " respondió " + response.statusCode() + ": " + response.body());
+        }
+        return response;
+    }
+}
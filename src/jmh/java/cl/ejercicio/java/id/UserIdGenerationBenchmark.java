@@ -0,0 +1,51 @@
+package cl.ejercicio.java.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara el costo de generar IDs v4 ({@code SecureRandom}) contra v7 (CAS + {@code ThreadLocalRandom}),
+ * con uno y varios hilos compitiendo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserIdGenerationBenchmark {
+
+    @Param({"v4", "v7"})
+    private String strategy;
+
+    private UserIdGenerator generator;
+
+    @Setup
+    public void setup() {
+        generator = "v7".equals(strategy) ? new UuidV7Generator() : new RandomUuidGenerator();
+    }
+
+    @Benchmark
+    public UUID singleThread() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID contended() {
+        return generator.nextId();
+    }
+}
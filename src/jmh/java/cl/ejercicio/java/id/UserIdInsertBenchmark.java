@@ -0,0 +1,142 @@
+package cl.ejercicio.java.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Inserta {@code rows} usuarios (por defecto 1M) con su teléfono y rol en un H2 en disco,
+ * replicando las tablas y claves de {@code schema-h2.sql}, y compara IDs v4 contra v7.
+ * <p>Al terminar cada iteración imprime el espacio en disco usado por las tablas
+ * ({@code DISK_SPACE_USED}), que refleja el tamaño de los índices.</p>
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Djmh.args="UserIdInsertBenchmark -p rows=1000000"</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class UserIdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"v4", "v7"})
+    private String strategy;
+
+    @Param({"1000000"})
+    private int rows;
+
+    private UserIdGenerator generator;
+    private Path directory;
+    private Connection connection;
+
+    @Setup(Level.Iteration)
+    public void setup() throws IOException, SQLException {
+        generator = "v7".equals(strategy) ? new UuidV7Generator() : new RandomUuidGenerator();
+        directory = Files.createTempDirectory("user-id-bench");
+        connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("bench") + ";CACHE_SIZE=65536", "sa", "");
+        try (Statement st = connection.createStatement()) {
+            st.execute("CREATE TABLE role (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, name VARCHAR(255) NOT NULL UNIQUE)");
+            st.execute("INSERT INTO role (name) VALUES ('ROLE_USER')");
+            st.execute("""
+                    CREATE TABLE users (
+                        id UUID NOT NULL PRIMARY KEY,
+                        name VARCHAR(255) NOT NULL,
+                        email VARCHAR(255) NOT NULL UNIQUE,
+                        password VARCHAR(255) NOT NULL,
+                        is_active BOOLEAN NOT NULL,
+                        version BIGINT NOT NULL DEFAULT 0)""");
+            st.execute("""
+                    CREATE TABLE phones (
+                        id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                        number VARCHAR(20) NOT NULL,
+                        city_code VARCHAR(10) NOT NULL,
+                        country_code VARCHAR(10) NOT NULL,
+                        user_id UUID NOT NULL,
+                        FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE)""");
+            st.execute("""
+                    CREATE TABLE users_roles (
+                        users_id UUID NOT NULL,
+                        role_id BIGINT NOT NULL,
+                        PRIMARY KEY (users_id, role_id),
+                        FOREIGN KEY (users_id) REFERENCES users(id) ON DELETE CASCADE,
+                        FOREIGN KEY (role_id) REFERENCES role(id) ON DELETE CASCADE)""");
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @Benchmark
+    public int insertUsers() throws SQLException {
+        try (PreparedStatement users = connection.prepareStatement(
+                "INSERT INTO users (id, name, email, password, is_active) VALUES (?, ?, ?, ?, TRUE)");
+             PreparedStatement phones = connection.prepareStatement(
+                     "INSERT INTO phones (number, city_code, country_code, user_id) VALUES ('987654321', '2', '56', ?)");
+             PreparedStatement roles = connection.prepareStatement(
+                     "INSERT INTO users_roles (users_id, role_id) VALUES (?, 1)")) {
+            for (int i = 1; i <= rows; i++) {
+                UUID id = generator.nextId();
+                users.setObject(1, id);
+                users.setString(2, "Usuario " + i);
+                users.setString(3, "user" + i + "@bench.cl");
+                users.setString(4, "$2a$10$XURPShlremkq2U/ozwL7uO9wrOJ1sP./VkbY4qNAX2fprZ0p3nxg2");
+                users.addBatch();
+                phones.setObject(1, id);
+                phones.addBatch();
+                roles.setObject(1, id);
+                roles.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    flush(users, phones, roles);
+                }
+            }
+            flush(users, phones, roles);
+        }
+        return rows;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws SQLException, IOException {
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("SELECT DISK_SPACE_USED('USERS'), DISK_SPACE_USED('PHONES'), DISK_SPACE_USED('USERS_ROLES')")) {
+            rs.next();
+            System.out.printf("%n[%s] bytes usados -> users: %d, phones: %d, users_roles: %d%n",
+                    strategy, rs.getLong(1), rs.getLong(2), rs.getLong(3));
+        }
+        connection.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private static void flush(PreparedStatement... statements) throws SQLException {
+        for (PreparedStatement statement : statements) {
+            statement.executeBatch();
+        }
+        statements[0].getConnection().commit();
+    }
+}
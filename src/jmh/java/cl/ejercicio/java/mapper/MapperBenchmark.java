@@ -0,0 +1,121 @@
+package cl.ejercicio.java.mapper;
+
+import cl.ejercicio.java.dto.PhoneDto;
+import cl.ejercicio.java.entity.Phone;
+import cl.ejercicio.java.entity.Role;
+import cl.ejercicio.java.entity.User;
+import cl.ejercicio.java.id.UuidV7Generator;
+import cl.ejercicio.java.request.UserCreateRequestDto;
+import cl.ejercicio.java.response.UserResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeos que corren en cada solicitud: {@link UserMapper} (entidad a DTO de respuesta y registro a entidad),
+ * {@link PhoneMapper} en ambos sentidos y {@link RoleMapper#mapRolesToStrings(Set)}, por cantidad de
+ * teléfonos y de roles. Ejecutar con {@code -prof gc} para ver los bytes asignados por operación.
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Djmh.args="MapperBenchmark -prof gc"</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"0", "1", "5", "20"})
+    private int phoneCount;
+
+    @Param({"1", "3", "10"})
+    private int roleCount;
+
+    private UserMapper userMapper;
+    private RoleMapper roleMapper;
+    private User user;
+    private List<Phone> phones;
+    private List<PhoneDto> phoneDtos;
+    private Set<Role> roles;
+    private UserCreateRequestDto createRequest;
+
+    @Setup
+    public void setup() {
+        userMapper = new UserMapper(new UuidV7Generator());
+        // mapRolesToStrings no consulta el repositorio
+        roleMapper = new RoleMapper(null);
+
+        roles = new HashSet<>();
+        for (int i = 0; i < roleCount; i++) {
+            roles.add(Role.builder().id((long) i).name("ROLE_BENCHMARK_" + i).build());
+        }
+        phoneDtos = new ArrayList<>();
+        for (int i = 0; i < phoneCount; i++) {
+            phoneDtos.add(new PhoneDto(String.valueOf(1_234_567 + i), "1", "57"));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        user = User.builder()
+                .id(UUID.randomUUID())
+                .name("Luna Rish")
+                .email("luna@email.com")
+                .password("$2a$10$abcdefghijklmnopqrstuv")
+                .roles(roles)
+                .created(now)
+                .modified(now)
+                .lastLogin(now)
+                .isActive(true)
+                .build();
+        phones = PhoneMapper.mapPhoneDtosToPhones(phoneDtos, user);
+        user.setPhones(phones);
+
+        createRequest = UserCreateRequestDto.builder()
+                .name(user.getName())
+                .email(user.getEmail())
+                .password("Password123!")
+                .phones(phoneDtos)
+                .build();
+    }
+
+    @Benchmark
+    public UserResponseDto mapToUserResponseDto() {
+        return userMapper.mapToUserResponseDto(user);
+    }
+
+    @Benchmark
+    public User mapToUser() {
+        return userMapper.mapToUser(createRequest, roles);
+    }
+
+    @Benchmark
+    public List<PhoneDto> mapPhonesToPhoneDtos() {
+        return PhoneMapper.mapPhonesToPhoneDtos(phones);
+    }
+
+    @Benchmark
+    public List<Phone> mapPhoneDtosToPhones() {
+        return PhoneMapper.mapPhoneDtosToPhones(phoneDtos, user);
+    }
+
+    @Benchmark
+    public Set<String> mapRolesToStrings() {
+        return roleMapper.mapRolesToStrings(roles);
+    }
+}
@@ -0,0 +1,107 @@
+package cl.ejercicio.java.response;
+
+import cl.ejercicio.java.dto.PhoneDto;
+import cl.ejercicio.java.dto.UserField;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara JSON, CBOR y Smile al codificar y decodificar un usuario y listados de usuarios.
+ * El tamaño de cada payload se imprime al preparar el estado; ejecutar con {@code -prof gc}
+ * para ver además los bytes asignados por operación.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentFormatBenchmark {
+
+    private static final TypeReference<ResponseDto<List<UserResponseDto>>> USERS_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"1", "1000", "10000"})
+    private int users;
+
+    private ResponseDto<List<UserResponseDto>> body;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory(format))
+                .filters(new SimpleFilterProvider().addFilter(UserField.FILTER_ID, SimpleBeanPropertyFilter.serializeAll()))
+                .build();
+        List<UserResponseDto> list = new ArrayList<>(users);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < users; i++) {
+            list.add(UserResponseDto.builder()
+                    .id(UUID.randomUUID())
+                    .name("Usuario " + i)
+                    .email("usuario" + i + "@email.com")
+                    .phones(List.of(new PhoneDto("1234567", "1", "57")))
+                    .roles(Set.of("ROLE_USER"))
+                    .created(now)
+                    .modified(now)
+                    .lastLogin(now)
+                    .isActive(true)
+                    .build());
+        }
+        body = new ResponseDto<>("Lista de usuarios obtenida exitosamente", list);
+        writer = mapper.writerFor(USERS_TYPE);
+        reader = mapper.readerFor(USERS_TYPE);
+        encoded = writer.writeValueAsBytes(body);
+        System.out.printf("%n%s, %d usuarios: %d bytes%n", format, users, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return writer.writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return reader.readValue(encoded);
+    }
+
+    private static JsonFactory factory(String format) {
+        return switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+    }
+}
@@ -0,0 +1,129 @@
+package cl.ejercicio.java.response;
+
+import cl.ejercicio.java.dto.PhoneDto;
+import cl.ejercicio.java.dto.UserField;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización JSON de las respuestas de usuario con el {@code ObjectMapper} configurado como en
+ * {@code JacksonConfig}: {@code ResponseDto<UserResponseDto>} (un usuario, por cantidad de teléfonos y roles)
+ * y {@code ResponseDto<List<UserResponseDto>>} de 1.000 a 100.000 usuarios.
+ * <p>Se escribe a un {@link OutputStream} que descarta los bytes, como el conversor de mensajes escribe a la
+ * respuesta; ejecutar con {@code -prof gc} para ver los bytes asignados por operación.</p>
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Djmh.args="UserResponseSerializationBenchmark -prof gc"</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserResponseSerializationBenchmark {
+
+    private static final TypeReference<ResponseDto<UserResponseDto>> USER_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<ResponseDto<List<UserResponseDto>>> USERS_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"1", "5"})
+    private int phoneCount;
+
+    @Param({"1", "3"})
+    private int roleCount;
+
+    private ObjectWriter userWriter;
+    private ObjectWriter usersWriter;
+    private ResponseDto<UserResponseDto> single;
+
+    @Setup
+    public void setup() {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+                .filters(new SimpleFilterProvider().addFilter(UserField.FILTER_ID, SimpleBeanPropertyFilter.serializeAll()))
+                .build();
+        userWriter = mapper.writerFor(USER_TYPE);
+        usersWriter = mapper.writerFor(USERS_TYPE);
+        single = new ResponseDto<>("Usuario obtenido exitosamente", user(0));
+    }
+
+    /**
+     * Listado de {@code users} usuarios; el parámetro solo multiplica {@link #list(Users)}.
+     */
+    @State(Scope.Benchmark)
+    public static class Users {
+
+        @Param({"1000", "10000", "100000"})
+        private int users;
+
+        private ResponseDto<List<UserResponseDto>> list;
+
+        @Setup
+        public void setup(UserResponseSerializationBenchmark benchmark) {
+            List<UserResponseDto> all = new ArrayList<>(users);
+            for (int i = 0; i < users; i++) {
+                all.add(benchmark.user(i));
+            }
+            list = new ResponseDto<>("Lista de usuarios obtenida exitosamente", all);
+        }
+    }
+
+    @Benchmark
+    public void single() throws IOException {
+        userWriter.writeValue(OutputStream.nullOutputStream(), single);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void list(Users users) throws IOException {
+        usersWriter.writeValue(OutputStream.nullOutputStream(), users.list);
+    }
+
+    private UserResponseDto user(int i) {
+        List<PhoneDto> phones = new ArrayList<>(phoneCount);
+        for (int p = 0; p < phoneCount; p++) {
+            phones.add(new PhoneDto(String.valueOf(1_234_567 + p), "1", "57"));
+        }
+        Set<String> roles = new HashSet<>();
+        for (int r = 0; r < roleCount; r++) {
+            roles.add("ROLE_BENCHMARK_" + r);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return UserResponseDto.builder()
+                .id(UUID.randomUUID())
+                .name("Usuario " + i)
+                .email("usuario" + i + "@email.com")
+                .phones(phones)
+                .roles(roles)
+                .created(now)
+                .modified(now)
+                .lastLogin(now)
+                .isActive(true)
+                .build();
+    }
+}
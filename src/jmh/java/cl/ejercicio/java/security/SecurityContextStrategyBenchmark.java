@@ -0,0 +1,144 @@
+package cl.ejercicio.java.security;
+
+import cl.ejercicio.java.security.context.ScopedValueSecurityContextHolderStrategy;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara la estrategia {@code ThreadLocal} de Spring Security contra
+ * {@link ScopedValueSecurityContextHolderStrategy}.
+ * <ul>
+ *     <li>{@code request}: fijar, leer y limpiar el contexto de una solicitud; con {@code -prof gc}
+ *     se obtiene la asignación por solicitud ({@code gc.alloc.rate.norm}).</li>
+ *     <li>{@code inFlight}: mantiene {@code inFlight} hilos virtuales autenticados y bloqueados a la vez;
+ *     {@code retainedBytesPerRequest} es el heap retenido por solicitud tras un GC (incluye la pila
+ *     del hilo virtual, común a ambas estrategias; interesa la diferencia).</li>
+ * </ul>
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Djmh.args="SecurityContextStrategyBenchmark -prof gc"</pre>
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class SecurityContextStrategyBenchmark {
+
+    private static final Authentication AUTHENTICATION = UsernamePasswordAuthenticationToken.authenticated(
+            "user@user.com", null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+    @Param({"thread-local", "scoped-value"})
+    private String strategy;
+
+    @Param({"10000"})
+    private int inFlight;
+
+    private SecurityContextHolderStrategy holder;
+
+    @Setup
+    public void setup() {
+        if ("scoped-value".equals(strategy)) {
+            holder = new ScopedValueSecurityContextHolderStrategy();
+        } else {
+            SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_THREADLOCAL);
+            holder = SecurityContextHolder.getContextHolderStrategy();
+        }
+    }
+
+    /**
+     * Heap retenido por solicitud en curso.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Retained {
+        public long retainedBytesPerRequest;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public Object request() throws Exception {
+        return inScope(() -> {
+            holder.getContext().setAuthentication(AUTHENTICATION);
+            Object principal = authenticatedPrincipal();
+            holder.clearContext();
+            return principal;
+        });
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public long inFlight(Retained retained) throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        CountDownLatch started = new CountDownLatch(inFlight);
+        CountDownLatch release = new CountDownLatch(1);
+        long before = usedHeapAfterGc(memory);
+
+        List<Thread> threads = new ArrayList<>(inFlight);
+        for (int i = 0; i < inFlight; i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                try {
+                    inScope(() -> {
+                        holder.getContext().setAuthentication(AUTHENTICATION);
+                        started.countDown();
+                        release.await();
+                        holder.clearContext();
+                        return null;
+                    });
+                } catch (Exception e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        started.await();
+        long during = usedHeapAfterGc(memory);
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        retained.retainedBytesPerRequest = (during - before) / inFlight;
+        return during - before;
+    }
+
+    private Object authenticatedPrincipal() {
+        Authentication authentication = holder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getPrincipal() : null;
+    }
+
+    private <T> T inScope(Callable<T> operation) throws Exception {
+        return holder instanceof ScopedValueSecurityContextHolderStrategy
+                ? ScopedValueSecurityContextHolderStrategy.callWithNewScope(operation)
+                : operation.call();
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) {
+        System.gc();
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,131 @@
+package cl.ejercicio.java.security.jwt;
+
+import cl.ejercicio.java.config.JwtProperties;
+import cl.ejercicio.java.metrics.OperationMetrics;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Línea base del camino caliente de {@link JwtService}: emisión ({@code generateToken}) y verificación
+ * ({@code validateAndParseToken}, {@code getRolesFromToken}, {@code isTokenValid}) por algoritmo HMAC y
+ * cantidad de roles.
+ * <p>Un único {@link JwtService} se comparte entre los hilos, con el timer {@code jwt.validation} y su
+ * histograma como en {@code application.yml}. {@link Contended} repite los mismos benchmarks con un hilo
+ * por procesador. Ejecutar con {@code -prof gc} para ver la asignación por operación
+ * ({@code gc.alloc.rate.norm}).</p>
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Djmh.args="JwtServiceBenchmark -prof gc"</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@Threads(1)
+public class JwtServiceBenchmark {
+
+    /** 64 bytes: el mínimo de HS512 (HS256 exige 32 y HS384, 48). */
+    private static final String SECRET = "BenchmarkJwtSecret_0123456789_abcdefghijklmnopqrstuvwxyz_ABCDEFG";
+    private static final String EMAIL = "luna@email.com";
+
+    @Param({"HS256", "HS384", "HS512"})
+    private String algorithm;
+
+    @Param({"1", "5", "20"})
+    private int roleCount;
+
+    private JwtService jwtService;
+    private List<String> roles;
+    private String token;
+    private UserDetails userDetails;
+
+    @Setup
+    public void setup() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setExpirationMillis(Duration.ofHours(1).toMillis());
+        properties.setIssuer("api-user-backend");
+        properties.setAudience("usuarios-miapp");
+        properties.setAlgorithm(algorithm);
+
+        jwtService = new JwtService(properties, new OperationMetrics(meterRegistry()));
+        jwtService.init();
+
+        roles = IntStream.range(0, roleCount).mapToObj(i -> "ROLE_BENCHMARK_" + i).toList();
+        token = jwtService.generateToken(EMAIL, roles);
+        userDetails = User.withUsername(EMAIL).password("{noop}x").authorities(roles.toArray(String[]::new)).build();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(EMAIL, roles);
+    }
+
+    @Benchmark
+    public Claims validateAndParseToken() {
+        return jwtService.validateAndParseToken(token);
+    }
+
+    @Benchmark
+    public List<String> getRolesFromToken() {
+        return jwtService.getRolesFromToken(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token, userDetails);
+    }
+
+    /**
+     * Los mismos benchmarks con un hilo por procesador sobre el mismo {@link JwtService}.
+     */
+    @State(Scope.Benchmark)
+    @Threads(Threads.MAX)
+    public static class Contended extends JwtServiceBenchmark {
+    }
+
+    /**
+     * Registro en memoria con el histograma de {@code jwt.validation} configurado en {@code application.yml}.
+     */
+    private static SimpleMeterRegistry meterRegistry() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().equals(JwtService.VALIDATION_METRIC)) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofNanos(1_000).toNanos())
+                        .maximumExpectedValue((double) Duration.ofMillis(100).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        });
+        return registry;
+    }
+}
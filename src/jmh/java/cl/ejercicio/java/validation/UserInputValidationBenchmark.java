@@ -0,0 +1,69 @@
+package cl.ejercicio.java.validation;
+
+import cl.ejercicio.java.config.RegexProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compara la validación original ({@code Pattern.matches} compilando en cada llamada)
+ * contra los patrones precompilados y el verificador de contraseñas de una sola pasada.
+ * Ejecutar con {@code -prof gc} para ver bytes asignados por operación.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserInputValidationBenchmark {
+
+    private static final String EMAIL_REGEX = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}(?:\\.[a-zA-Z]{2,})?$";
+
+    @Param({"luna.rish@email.com"})
+    private String email;
+
+    @Param({"Password123!", "short1!", "NoSymbolsHere123"})
+    private String password;
+
+    private UserInputValidator validator;
+
+    @Setup
+    public void setup() {
+        RegexProperties properties = new RegexProperties();
+        properties.setEmail(EMAIL_REGEX);
+        properties.setPassword(PasswordRules.DEFAULT_REGEX);
+        validator = new UserInputValidator(properties);
+    }
+
+    @Benchmark
+    public boolean emailPatternMatches() {
+        return Pattern.matches(EMAIL_REGEX, email);
+    }
+
+    @Benchmark
+    public boolean emailPrecompiled() {
+        return validator.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean passwordPatternMatches() {
+        return Pattern.matches(PasswordRules.DEFAULT_REGEX, password);
+    }
+
+    @Benchmark
+    public boolean passwordSinglePass() {
+        return validator.isValidPassword(password);
+    }
+}
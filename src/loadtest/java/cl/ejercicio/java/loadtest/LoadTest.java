@@ -0,0 +1,94 @@
+package cl.ejercicio.java.loadtest;
+
+import cl.ejercicio.java.EjercicioJavaApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Prueba de carga de extremo a extremo en la misma JVM: levanta la aplicación en un puerto libre con el perfil
+ * prod, siembra usuarios, aplica una carga de modelo abierto sobre la API HTTP y compara los resultados con
+ * {@code src/loadtest/loadtest-thresholds.properties}. Termina con código 1 si hay regresión.
+ * <pre>
+ * mvn -Ploadtest test-compile exec:exec
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--rate=80 --spring.threads.virtual.enabled=true"
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--record"
+ * </pre>
+ */
+public final class LoadTest {
+
+    private static final List<String> DEFAULT_APP_ARGS = List.of(
+            "--server.port=0",
+            "--spring.profiles.active=prod",
+            "--spring.main.banner-mode=off");
+
+    private static final String DEFAULT_MAX_ERROR_RATE = "0.01";
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path thresholdsPath = thresholdsPath(args);
+        Properties thresholds = LoadTestThresholds.load(thresholdsPath);
+        LoadTestOptions options = LoadTestOptions.parse(args, thresholdsPath, thresholds);
+
+        boolean regression;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EjercicioJavaApplication.class)
+                .run(appArgs(options.appArgs()))) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadTestFixture fixture = LoadTestFixture.seed(context, port, options.users());
+
+            System.out.printf("%nCarga: %s req/s durante %s (+%s de calentamiento), mix %s, %d usuarios%n",
+                    options.rate(), options.duration(), options.warmup(), options.mixAsString(), options.users());
+            LoadTestResults results = new OpenModelDriver(options).run(fixture);
+            results.print(System.out);
+
+            if (options.record()) {
+                LoadTestThresholds.record(thresholdsPath, options, results,
+                        thresholds.getProperty("error-rate.max", DEFAULT_MAX_ERROR_RATE));
+                System.out.printf("%nUmbrales registrados en %s%n", thresholdsPath);
+                regression = false;
+            } else {
+                List<String> violations = LoadTestThresholds.check(thresholds, options, results);
+                violations.forEach(violation -> System.out.println("REGRESIÓN: " + violation));
+                System.out.println(violations.isEmpty() ? "\nDentro de los umbrales de " + thresholdsPath : "");
+                regression = !violations.isEmpty();
+            }
+        }
+        System.exit(regression ? 1 : 0);
+    }
+
+    private static Path thresholdsPath(String[] args) {
+        for (String arg : args) {
+            if (arg.startsWith("--thresholds=")) {
+                return Path.of(arg.substring("--thresholds=".length()));
+            }
+        }
+        return LoadTestOptions.DEFAULT_THRESHOLDS;
+    }
+
+    /**
+     * Los argumentos de la línea de comandos reemplazan a los por defecto con la misma clave.
+     */
+    private static String[] appArgs(List<String> overrides) {
+        Map<String, String> args = new LinkedHashMap<>();
+        for (String arg : DEFAULT_APP_ARGS) {
+            args.put(key(arg), arg);
+        }
+        for (String arg : overrides) {
+            args.put(key(arg), arg);
+        }
+        return args.values().toArray(String[]::new);
+    }
+
+    private static String key(String arg) {
+        int separator = arg.indexOf('=');
+        return separator < 0 ? arg : arg.substring(0, separator);
+    }
+}
@@ -0,0 +1,131 @@
+package cl.ejercicio.java.loadtest;
+
+import cl.ejercicio.java.entity.Phone;
+import cl.ejercicio.java.entity.Role;
+import cl.ejercicio.java.entity.User;
+import cl.ejercicio.java.id.UserIdGenerator;
+import cl.ejercicio.java.repository.RoleRepository;
+import cl.ejercicio.java.repository.UserRepository;
+import cl.ejercicio.java.security.jwt.JwtService;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Datos de la prueba: usuarios sembrados directamente con los repositorios de la aplicación (un solo hash
+ * BCrypt para todos) y un token por usuario emitido con su {@link JwtService}.
+ */
+final class LoadTestFixture {
+
+    static final String PASSWORD = "Password123!";
+
+    private static final int BATCH_SIZE = 500;
+    private static final String ADMIN_EMAIL = "admin@loadtest.cl";
+
+    private final URI baseUri;
+    private final List<SeededUser> users;
+    private final String adminToken;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private LoadTestFixture(URI baseUri, List<SeededUser> users, String adminToken) {
+        this.baseUri = baseUri;
+        this.users = users;
+        this.adminToken = adminToken;
+    }
+
+    /**
+     * Siembra {@code count} usuarios con {@code ROLE_USER} y un administrador.
+     *
+     * @param context contexto de la aplicación iniciada
+     * @param port    puerto HTTP de la aplicación
+     * @param count   usuarios a sembrar
+     * @return los datos de la prueba
+     */
+    static LoadTestFixture seed(ApplicationContext context, int port, int count) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        RoleRepository roleRepository = context.getBean(RoleRepository.class);
+        UserIdGenerator ids = context.getBean(UserIdGenerator.class);
+        JwtService jwtService = context.getBean(JwtService.class);
+        String hash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        Role userRole = roleRepository.findByName("ROLE_USER").orElseThrow();
+        Role adminRole = roleRepository.findByName("ROLE_ADMIN").orElseThrow();
+
+        userRepository.save(newUser(ids, "Admin Carga", ADMIN_EMAIL, hash, "1000000", adminRole));
+        List<SeededUser> seeded = new ArrayList<>(count);
+        List<User> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            String email = "usuario" + i + "@loadtest.cl";
+            String phone = String.valueOf(2_000_000 + i);
+            batch.add(newUser(ids, "Usuario " + i, email, hash, phone, userRole));
+            seeded.add(new SeededUser("Usuario " + i, email, phone, jwtService.generateToken(email, List.of(userRole.getName()))));
+            if (batch.size() == BATCH_SIZE || i == count - 1) {
+                userRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        String adminToken = jwtService.generateToken(ADMIN_EMAIL, List.of(adminRole.getName()));
+        return new LoadTestFixture(URI.create("http://localhost:" + port), List.copyOf(seeded), adminToken);
+    }
+
+    URI uri(String path) {
+        return baseUri.resolve(path);
+    }
+
+    SeededUser randomUser() {
+        return users.get(ThreadLocalRandom.current().nextInt(users.size()));
+    }
+
+    String adminToken() {
+        return adminToken;
+    }
+
+    /**
+     * @return un número distinto en cada llamada, para emails y nombres únicos
+     */
+    long nextSequence() {
+        return sequence.incrementAndGet();
+    }
+
+    private static User newUser(UserIdGenerator ids, String name, String email, String hash, String phone, Role role) {
+        LocalDateTime now = LocalDateTime.now();
+        User user = User.builder()
+                .id(ids.nextId())
+                .name(name)
+                .email(email)
+                .password(hash)
+                .roles(new HashSet<>(Set.of(role)))
+                .created(now)
+                .modified(now)
+                .lastLogin(now)
+                .isActive(true)
+                // sin versión, Spring Data lo trata como nuevo (persist en vez de merge)
+                .version(null)
+                .build();
+        user.setPhones(new ArrayList<>(List.of(Phone.builder()
+                .number(phone)
+                .cityCode("2")
+                .countryCode("56")
+                .user(user)
+                .build())));
+        return user;
+    }
+
+    /**
+     * Un usuario sembrado.
+     *
+     * @param name  nombre
+     * @param email email
+     * @param phone número de su teléfono
+     * @param token JWT vigente del usuario
+     */
+    record SeededUser(String name, String email, String phone, String token) {
+    }
+}
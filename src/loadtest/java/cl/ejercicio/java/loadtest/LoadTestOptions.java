@@ -0,0 +1,112 @@
+package cl.ejercicio.java.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Opciones de la prueba de carga. Los valores por defecto salen del archivo de umbrales, de modo que una
+ * ejecución sin argumentos repite la carga con la que se midieron; los argumentos {@code --clave=valor} los
+ * reemplazan y los demás argumentos se pasan a la aplicación (por ejemplo
+ * {@code --spring.threads.virtual.enabled=true}).
+ *
+ * @param rate        solicitudes por segundo iniciadas, independientes de las respuestas (modelo abierto)
+ * @param warmup      duración del calentamiento, no medido
+ * @param duration    duración de la medición
+ * @param users       usuarios sembrados en la base antes de empezar
+ * @param mix         peso de cada operación
+ * @param maxInFlight solicitudes en curso a partir de las cuales las nuevas se descartan (y cuentan como error)
+ * @param timeout     espera máxima por cada respuesta
+ * @param tolerance   regresión admitida sobre los umbrales (0.2 = 20 %)
+ * @param thresholds  archivo de umbrales
+ * @param record      reescribe los umbrales con los resultados de esta ejecución en vez de compararlos
+ * @param appArgs     argumentos para la aplicación
+ */
+record LoadTestOptions(double rate,
+                       Duration warmup,
+                       Duration duration,
+                       int users,
+                       Map<Operation, Integer> mix,
+                       int maxInFlight,
+                       Duration timeout,
+                       double tolerance,
+                       Path thresholds,
+                       boolean record,
+                       List<String> appArgs) {
+
+    static final Path DEFAULT_THRESHOLDS = Path.of("src/loadtest/loadtest-thresholds.properties");
+
+    /**
+     * @param args     argumentos de la línea de comandos
+     * @param baseline contenido del archivo de umbrales
+     * @return las opciones
+     */
+    static LoadTestOptions parse(String[] args, Path thresholds, Properties baseline) {
+        Properties values = new Properties();
+        values.putAll(baseline);
+        List<String> appArgs = new ArrayList<>();
+        boolean record = false;
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int separator = option.indexOf('=');
+            String key = separator < 0 ? option : option.substring(0, separator);
+            String value = separator < 0 ? "true" : option.substring(separator + 1);
+            switch (key) {
+                case "record" -> record = Boolean.parseBoolean(value);
+                case "thresholds" -> {
+                    // ya resuelto por LoadTest#thresholdsPath
+                }
+                case "rate", "warmup", "duration", "users", "mix", "max-in-flight", "timeout", "tolerance" ->
+                        values.setProperty(key, value);
+                default -> appArgs.add(arg);
+            }
+        }
+        return new LoadTestOptions(
+                Double.parseDouble(values.getProperty("rate", "10")),
+                DurationStyle.detectAndParse(values.getProperty("warmup", "10s")),
+                DurationStyle.detectAndParse(values.getProperty("duration", "30s")),
+                Integer.parseInt(values.getProperty("users", "1000")),
+                parseMix(values.getProperty("mix", "getUser:55,getAllUsers:5,update:20,login:10,register:10")),
+                Integer.parseInt(values.getProperty("max-in-flight", "10000")),
+                DurationStyle.detectAndParse(values.getProperty("timeout", "10s")),
+                Double.parseDouble(values.getProperty("tolerance", "0.2")),
+                thresholds,
+                record,
+                List.copyOf(appArgs));
+    }
+
+    /**
+     * @param mix pesos como {@code getUser:55,update:20,...}
+     * @return peso de cada operación (las omitidas no se ejecutan)
+     */
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Entrada de mix inválida (operación:peso): " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.byName(parts[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("El mix no tiene operaciones: " + mix);
+        }
+        return weights;
+    }
+
+    String mixAsString() {
+        StringBuilder text = new StringBuilder();
+        mix.forEach((operation, weight) -> text.append(text.isEmpty() ? "" : ",")
+                .append(operation.label()).append(':').append(weight));
+        return text.toString();
+    }
+}
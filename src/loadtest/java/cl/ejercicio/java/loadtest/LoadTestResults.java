@@ -0,0 +1,133 @@
+package cl.ejercicio.java.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resultados de la ventana medida, por operación.
+ * <p>El tiempo de respuesta se mide desde el instante en que la solicitud debía iniciarse según la tasa
+ * programada, no desde que se envió: si la aplicación (o el generador) se atrasa, la espera acumulada
+ * queda en los percentiles en vez de omitirse (corrección de la omisión coordinada). El tiempo de servicio,
+ * desde el envío, se informa aparte.</p>
+ */
+final class LoadTestResults {
+
+    private final Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+    private final Duration duration;
+    private final double offeredRate;
+
+    LoadTestResults(Iterable<Operation> operations, Duration duration, double offeredRate) {
+        for (Operation operation : operations) {
+            stats.put(operation, new Stats());
+        }
+        this.duration = duration;
+        this.offeredRate = offeredRate;
+    }
+
+    /**
+     * @param responseNanos desde el instante programado hasta la respuesta
+     * @param serviceNanos  desde el envío hasta la respuesta
+     * @param status        código HTTP, o -1 si no hubo respuesta
+     */
+    void record(Operation operation, long responseNanos, long serviceNanos, int status) {
+        Stats operationStats = stats.get(operation);
+        operationStats.responseTime.recordValue(TimeUnit.NANOSECONDS.toMicros(responseNanos));
+        operationStats.serviceTime.recordValue(TimeUnit.NANOSECONDS.toMicros(serviceNanos));
+        operationStats.statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        (operation.succeeded(status) ? operationStats.successes : operationStats.errors).increment();
+    }
+
+    /**
+     * Una solicitud que no se envió porque ya había {@code max-in-flight} en curso.
+     */
+    void dropped(Operation operation) {
+        stats.get(operation).dropped.increment();
+    }
+
+    /**
+     * @return solicitudes exitosas por segundo en la ventana medida
+     */
+    double throughput() {
+        long successes = stats.values().stream().mapToLong(operationStats -> operationStats.successes.sum()).sum();
+        return successes / (duration.toNanos() / 1e9);
+    }
+
+    /**
+     * @return fracción de solicitudes fallidas o descartadas
+     */
+    double errorRate() {
+        long failed = stats.values().stream().mapToLong(Stats::failed).sum();
+        long total = stats.values().stream().mapToLong(Stats::total).sum();
+        return total == 0 ? 0 : (double) failed / total;
+    }
+
+    /**
+     * @return percentil 99 del tiempo de respuesta de cada operación, en milisegundos
+     */
+    Map<Operation, Double> p99Millis() {
+        Map<Operation, Double> p99 = new EnumMap<>(Operation.class);
+        stats.forEach((operation, operationStats) -> {
+            if (operationStats.total() > 0) {
+                p99.put(operation, millis(operationStats.responseTime.getValueAtPercentile(99)));
+            }
+        });
+        return p99;
+    }
+
+    void print(PrintStream out) {
+        out.printf("%nTasa ofrecida %.1f req/s, medido durante %d s: %.1f req/s exitosas, %.2f %% errores%n",
+                offeredRate, duration.toSeconds(), throughput(), errorRate() * 100);
+        out.printf("Tiempo de respuesta desde el instante programado (ms):%n");
+        out.printf("%-12s %8s %7s %8s %8s %8s %8s %8s %8s | %10s  %s%n",
+                "operación", "total", "errores", "p50", "p90", "p99", "p99.9", "máx", "media", "servicio99", "códigos");
+        stats.forEach((operation, operationStats) -> {
+            Histogram response = operationStats.responseTime;
+            out.printf("%-12s %8d %7d %8.1f %8.1f %8.1f %8.1f %8.1f %8.1f | %10.1f  %s%n",
+                    operation.label(), operationStats.total(), operationStats.failed(),
+                    millis(response.getValueAtPercentile(50)), millis(response.getValueAtPercentile(90)),
+                    millis(response.getValueAtPercentile(99)), millis(response.getValueAtPercentile(99.9)),
+                    millis(response.getMaxValue()), response.getMean() / 1000,
+                    millis(operationStats.serviceTime.getValueAtPercentile(99)), operationStats.statusSummary());
+        });
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static final class Stats {
+
+        private final Histogram responseTime = new ConcurrentHistogram(3);
+        private final Histogram serviceTime = new ConcurrentHistogram(3);
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+
+        long total() {
+            return successes.sum() + errors.sum() + dropped.sum();
+        }
+
+        long failed() {
+            return errors.sum() + dropped.sum();
+        }
+
+        String statusSummary() {
+            Map<String, Long> summary = new TreeMap<>();
+            statuses.forEach((status, count) -> summary.put(status < 0 ? "sin respuesta" : status.toString(), count.sum()));
+            if (dropped.sum() > 0) {
+                summary.put("descartadas", dropped.sum());
+            }
+            return summary.toString();
+        }
+    }
+}
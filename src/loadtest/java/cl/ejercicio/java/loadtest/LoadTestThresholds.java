@@ -0,0 +1,97 @@
+package cl.ejercicio.java.loadtest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Umbrales de regresión: el archivo guarda la carga con que se midieron (rate, mix, ...) y los resultados
+ * aceptados; una ejecución posterior falla si empeora más que la tolerancia.
+ * <ul>
+ *     <li>{@code <operación>.p99}: percentil 99 del tiempo de respuesta, en milisegundos.</li>
+ *     <li>{@code throughput.min}: solicitudes exitosas por segundo.</li>
+ *     <li>{@code error-rate.max}: fracción de errores; no se le aplica la tolerancia.</li>
+ * </ul>
+ */
+final class LoadTestThresholds {
+
+    private LoadTestThresholds() {
+    }
+
+    static Properties load(Path path) throws IOException {
+        Properties properties = new Properties();
+        if (Files.exists(path)) {
+            try (Reader reader = Files.newBufferedReader(path)) {
+                properties.load(reader);
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * @return las regresiones encontradas; vacía si la ejecución está dentro de los umbrales
+     */
+    static List<String> check(Properties thresholds, LoadTestOptions options, LoadTestResults results) {
+        List<String> violations = new ArrayList<>();
+        double tolerance = options.tolerance();
+        results.p99Millis().forEach((operation, p99) -> {
+            String threshold = thresholds.getProperty(operation.label() + ".p99");
+            if (threshold != null && p99 > Double.parseDouble(threshold) * (1 + tolerance)) {
+                violations.add(format("%s p99 %.1f ms supera el umbral %s ms (+%.0f %%)",
+                        operation.label(), p99, threshold, tolerance * 100));
+            }
+        });
+        String minThroughput = thresholds.getProperty("throughput.min");
+        if (minThroughput != null && results.throughput() < Double.parseDouble(minThroughput) * (1 - tolerance)) {
+            violations.add(format("throughput %.1f req/s bajo el mínimo %s req/s (-%.0f %%)",
+                    results.throughput(), minThroughput, tolerance * 100));
+        }
+        String maxErrorRate = thresholds.getProperty("error-rate.max");
+        if (maxErrorRate != null && results.errorRate() > Double.parseDouble(maxErrorRate)) {
+            violations.add(format("tasa de errores %.4f supera el máximo %s", results.errorRate(), maxErrorRate));
+        }
+        return violations;
+    }
+
+    /**
+     * Reescribe el archivo con la carga de esta ejecución y sus resultados como nuevos umbrales.
+     */
+    static void record(Path path, LoadTestOptions options, LoadTestResults results, String maxErrorRate)
+            throws IOException {
+        try (Writer writer = Files.newBufferedWriter(path)) {
+            writer.write("# Umbrales de la prueba de carga (src/loadtest), registrados con --record el "
+                    + LocalDate.now() + ".\n");
+            writer.write("# Una ejecución sin argumentos repite esta carga y falla si p99 o throughput empeoran\n");
+            writer.write("# más que la tolerancia, o si la tasa de errores supera error-rate.max.\n\n");
+            writer.write("# Carga\n");
+            writer.write(format("rate=%s%n", trim(options.rate())));
+            writer.write("warmup=" + options.warmup().toSeconds() + "s\n");
+            writer.write("duration=" + options.duration().toSeconds() + "s\n");
+            writer.write("users=" + options.users() + "\n");
+            writer.write("mix=" + options.mixAsString() + "\n");
+            writer.write(format("tolerance=%s%n%n", trim(options.tolerance())));
+            writer.write("# Umbrales (p99 en ms, desde el instante programado)\n");
+            writer.write(format("throughput.min=%.1f%n", results.throughput()));
+            writer.write("error-rate.max=" + maxErrorRate + "\n");
+            for (Map.Entry<Operation, Double> p99 : results.p99Millis().entrySet()) {
+                writer.write(format("%s.p99=%.1f%n", p99.getKey().label(), p99.getValue()));
+            }
+        }
+    }
+
+    private static String trim(double value) {
+        return value == Math.rint(value) ? Long.toString((long) value) : Double.toString(value);
+    }
+
+    private static String format(String format, Object... args) {
+        return String.format(Locale.ROOT, format, args);
+    }
+}
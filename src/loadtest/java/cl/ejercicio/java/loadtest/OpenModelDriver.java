@@ -0,0 +1,107 @@
+package cl.ejercicio.java.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generador de carga de modelo abierto: inicia solicitudes a una tasa fija, cada una en su propio hilo virtual,
+ * sin esperar a que terminen las anteriores (como llegan los clientes reales). Las solicitudes del
+ * calentamiento se envían pero no se registran.
+ */
+final class OpenModelDriver {
+
+    private final LoadTestOptions options;
+    private final Operation[] schedule;
+
+    OpenModelDriver(LoadTestOptions options) {
+        this.options = options;
+        this.schedule = weightedSchedule(options.mix());
+    }
+
+    LoadTestResults run(LoadTestFixture fixture) {
+        LoadTestResults results = new LoadTestResults(options.mix().keySet(), options.duration(), options.rate());
+        long period = (long) (1_000_000_000L / options.rate());
+        long start = System.nanoTime();
+        long measureStart = start + options.warmup().toNanos();
+        long end = measureStart + options.duration().toNanos();
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .executor(requests)
+                     .connectTimeout(options.timeout())
+                     .build()) {
+            for (long i = 0; ; i++) {
+                long intended = start + i * period;
+                if (intended >= end) {
+                    break;
+                }
+                sleepUntil(intended);
+                Operation operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+                boolean measured = intended >= measureStart;
+                if (!inFlight.tryAcquire()) {
+                    if (measured) {
+                        results.dropped(operation);
+                    }
+                    continue;
+                }
+                requests.execute(() -> {
+                    try {
+                        execute(client, fixture, operation, intended, measured ? results : null);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return results;
+    }
+
+    private void execute(HttpClient client, LoadTestFixture fixture, Operation operation, long intended,
+                         LoadTestResults results) {
+        HttpRequest request = operation.request(fixture, options.timeout());
+        long sent = System.nanoTime();
+        int status;
+        try {
+            status = client.send(request, BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            status = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long received = System.nanoTime();
+        if (results != null) {
+            results.record(operation, received - intended, received - sent, status);
+        }
+    }
+
+    /**
+     * Si el generador va atrasado no espera: envía de inmediato y el atraso cuenta en el tiempo de respuesta.
+     */
+    private static void sleepUntil(long deadline) {
+        for (long remaining; (remaining = deadline - System.nanoTime()) > 0; ) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static Operation[] weightedSchedule(Map<Operation, Integer> mix) {
+        List<Operation> schedule = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(operation);
+            }
+        });
+        return schedule.toArray(Operation[]::new);
+    }
+}
@@ -0,0 +1,105 @@
+package cl.ejercicio.java.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Operaciones de la carga. Cada una arma su solicitud a partir de {@link LoadTestFixture}.
+ */
+enum Operation {
+
+    LOGIN("login", 200) {
+        @Override
+        HttpRequest request(LoadTestFixture fixture, Duration timeout) {
+            LoadTestFixture.SeededUser user = fixture.randomUser();
+            return post(fixture.uri("/api/v1/auth/login"), timeout,
+                    "{\"email\":\"" + user.email() + "\",\"password\":\"" + LoadTestFixture.PASSWORD + "\"}");
+        }
+    },
+
+    REGISTER("register", 201) {
+        @Override
+        HttpRequest request(LoadTestFixture fixture, Duration timeout) {
+            long n = fixture.nextSequence();
+            return post(fixture.uri("/api/v1/auth/register"), timeout,
+                    "{\"name\":\"Registro " + n + "\",\"email\":\"registro" + n + "@loadtest.cl\",\"password\":\""
+                            + LoadTestFixture.PASSWORD + "\",\"phones\":[{\"number\":\"" + (1_000_000 + n)
+                            + "\",\"cityCode\":\"2\",\"countryCode\":\"56\"}],\"roles\":[\"ROLE_USER\"]}");
+        }
+    },
+
+    GET_USER("getUser", 200) {
+        @Override
+        HttpRequest request(LoadTestFixture fixture, Duration timeout) {
+            LoadTestFixture.SeededUser user = fixture.randomUser();
+            return HttpRequest.newBuilder(fixture.uri("/api/v1/users/getUser/" + user.email()))
+                    .timeout(timeout)
+                    .header("Authorization", "Bearer " + user.token())
+                    .GET()
+                    .build();
+        }
+    },
+
+    GET_ALL_USERS("getAllUsers", 200) {
+        @Override
+        HttpRequest request(LoadTestFixture fixture, Duration timeout) {
+            return HttpRequest.newBuilder(fixture.uri("/api/v1/users/getAllUsers"))
+                    .timeout(timeout)
+                    .header("Authorization", "Bearer " + fixture.randomUser().token())
+                    .GET()
+                    .build();
+        }
+    },
+
+    UPDATE("update", 200) {
+        @Override
+        HttpRequest request(LoadTestFixture fixture, Duration timeout) {
+            LoadTestFixture.SeededUser user = fixture.randomUser();
+            return HttpRequest.newBuilder(fixture.uri("/api/v1/users/update/" + user.email()))
+                    .timeout(timeout)
+                    .header("Authorization", "Bearer " + fixture.adminToken())
+                    .header("Content-Type", "application/json")
+                    .PUT(BodyPublishers.ofString("{\"name\":\"" + user.name() + " " + fixture.nextSequence()
+                            + "\",\"email\":\"" + user.email() + "\",\"phones\":[{\"number\":\"" + user.phone()
+                            + "\",\"cityCode\":\"2\",\"countryCode\":\"56\"}],\"roles\":[\"ROLE_USER\"]}"))
+                    .build();
+        }
+    };
+
+    private final String label;
+    private final int expectedStatus;
+
+    Operation(String label, int expectedStatus) {
+        this.label = label;
+        this.expectedStatus = expectedStatus;
+    }
+
+    abstract HttpRequest request(LoadTestFixture fixture, Duration timeout);
+
+    String label() {
+        return label;
+    }
+
+    boolean succeeded(int status) {
+        return status == expectedStatus;
+    }
+
+    static Operation byName(String label) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.label.equalsIgnoreCase(label))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Operación desconocida: " + label
+                        + " (disponibles: login, register, getUser, getAllUsers, update)"));
+    }
+
+    private static HttpRequest post(URI uri, Duration timeout, String json) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(BodyPublishers.ofString(json))
+                .build();
+    }
+}
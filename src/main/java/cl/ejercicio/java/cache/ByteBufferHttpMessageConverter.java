@@ -0,0 +1,56 @@
+package cl.ejercicio.java.cache;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Escribe cuerpos {@link ByteBuffer} (las respuestas de {@link UserResponseCache}) directamente
+ * desde el buffer, sin copiarlos antes a un {@code byte[]} del tamaño de la respuesta.
+ * Solo escritura; Spring Boot lo agrega a los conversores de Spring MVC por ser un bean.
+ */
+@Component
+public class ByteBufferHttpMessageConverter extends AbstractHttpMessageConverter<ByteBuffer> {
+
+    public ByteBufferHttpMessageConverter() {
+        super(MediaType.ALL);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ByteBuffer.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ByteBuffer readInternal(Class<? extends ByteBuffer> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("ByteBuffer solo se admite en respuestas", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(ByteBuffer buffer, MediaType contentType) {
+        return (long) buffer.remaining();
+    }
+
+    @Override
+    protected void writeInternal(ByteBuffer buffer, HttpOutputMessage outputMessage) throws IOException {
+        // El buffer puede estar compartido con otras solicitudes: se escribe una vista con posición propia
+        WritableByteChannel channel = Channels.newChannel(outputMessage.getBody());
+        ByteBuffer view = buffer.duplicate();
+        while (view.hasRemaining()) {
+            channel.write(view);
+        }
+    }
+}
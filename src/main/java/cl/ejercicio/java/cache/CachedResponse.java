@@ -0,0 +1,56 @@
+package cl.ejercicio.java.cache;
+
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Cuerpo de respuesta ya serializado, tal como se almacena en {@link UserResponseCache}.
+ * <p>El buffer es de solo lectura y puede estar compartido entre solicitudes: se lee siempre
+ * a través de {@link ByteBuffer#duplicate()} o de {@link #json()}, sin mover su posición.</p>
+ *
+ * @param body bytes JSON (o gzip si {@code gzip} es true)
+ * @param gzip indica si {@code body} está comprimido con gzip
+ * @param etag ETag de la representación
+ */
+public record CachedResponse(ByteBuffer body, boolean gzip, String etag) {
+
+    /**
+     * @return tamaño del cuerpo almacenado, en bytes
+     */
+    public int size() {
+        return body.remaining();
+    }
+
+    /**
+     * Abre el documento JSON, descomprimiéndolo al vuelo si está guardado con gzip.
+     *
+     * @return flujo con el JSON original
+     */
+    public InputStream json() {
+        InputStream in = new ByteBufferBackedInputStream(body.duplicate());
+        if (!gzip) {
+            return in;
+        }
+        try {
+            return new GZIPInputStream(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return el JSON original en un arreglo nuevo, para clientes que no aceptan gzip
+     */
+    public byte[] jsonBytes() {
+        try (InputStream in = json()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package cl.ejercicio.java.cache;
+
+/**
+ * Evento publicado por cada escritura sobre un usuario.
+ * <p>Los listeners lo reciben después del commit de la transacción que lo publicó
+ * (o inmediatamente si no hay transacción activa).</p>
+ *
+ * @param email email del usuario modificado
+ */
+public record UserChangedEvent(String email) {
+}
@@ -0,0 +1,32 @@
+package cl.ejercicio.java.cache;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contador de cambios de la colección de usuarios, usado como ETag de los listados.
+ * <p>Se incrementa tras el commit de cada escritura ({@link UserChangedEvent}). El prefijo
+ * aleatorio por instancia evita que un ETag anterior a un reinicio vuelva a coincidir.
+ * Supone que todas las escrituras pasan por esta instancia, como ocurre con la base H2 local.</p>
+ */
+@Component
+public class UserCollectionVersion {
+
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private final AtomicLong changes = new AtomicLong();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        changes.incrementAndGet();
+    }
+
+    /**
+     * @return ETag fuerte que identifica el estado actual de la colección
+     */
+    public String etag() {
+        return "\"users-" + epoch + "-" + changes.get() + "\"";
+    }
+}
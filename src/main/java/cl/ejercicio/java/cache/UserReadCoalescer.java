@@ -0,0 +1,150 @@
+package cl.ejercicio.java.cache;
+
+import cl.ejercicio.java.config.ReadCoalescingProperties;
+import cl.ejercicio.java.deadline.RequestDeadline;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa lecturas concurrentes e idénticas de un usuario ("single flight"): la primera lectura de una
+ * clave consulta la base de datos y las que llegan mientras tanto esperan su resultado.
+ * <p>No guarda resultados: al terminar la lectura líder la clave se libera. Cada {@link UserChangedEvent}
+ * desvincula las lecturas en curso del usuario, de modo que una lectura iniciada después de un commit
+ * nunca recibe datos cargados antes de él.</p>
+ * <p>La clave usa el email sin espacios alrededor; no se cambian mayúsculas porque la búsqueda en la
+ * base de datos las distingue. Los resultados compartidos deben ser inmutables o de solo lectura
+ * (DTO, proyecciones, bytes serializados), nunca entidades administradas.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserReadCoalescer implements MeterBinder {
+
+    private final ReadCoalescingProperties properties;
+
+    private final Map<FlightKey, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+    private final AtomicLong leaders = new AtomicLong();
+    private final AtomicLong followers = new AtomicLong();
+    private final AtomicLong followerTimeouts = new AtomicLong();
+
+    /**
+     * Ejecuta {@code loader} o, si ya hay una lectura idéntica en curso, espera su resultado.
+     *
+     * @param kind    tipo de lectura (por ejemplo {@code "response"} o {@code "version"})
+     * @param email   email del usuario
+     * @param variant variante de la lectura (selección de campos), o null
+     * @param loader  lectura a ejecutar
+     * @param <T>     tipo del resultado
+     * @return el resultado propio o el de la lectura líder
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String kind, String email, String variant, Supplier<T> loader) {
+        if (!properties.isEnabled() || email == null) {
+            return loader.get();
+        }
+        FlightKey key = new FlightKey(kind, email.strip(), variant);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = flights.putIfAbsent(key, flight);
+        if (existing == null) {
+            return lead(key, flight, loader);
+        }
+
+        long waitMillis = RequestDeadline.boundMillis(properties.getFollowerTimeout().toMillis());
+        try {
+            T result = (T) existing.get(waitMillis, TimeUnit.MILLISECONDS);
+            followers.incrementAndGet();
+            return result;
+        } catch (TimeoutException e) {
+            followerTimeouts.incrementAndGet();
+            log.warn("Lectura {} de {} sin respuesta tras {} ms; se consulta directamente", kind, key.email(), waitMillis);
+            return loader.get();
+        } catch (ExecutionException e) {
+            followers.incrementAndGet();
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido esperando la lectura de " + key.email(), e);
+        }
+    }
+
+    /**
+     * Desvincula las lecturas en curso del usuario modificado.
+     *
+     * @param event evento de escritura
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.email() == null) {
+            flights.clear();
+        } else {
+            flights.keySet().removeIf(key -> key.email().equals(event.email().strip()));
+        }
+    }
+
+    /**
+     * @return fracción de lecturas servidas por otra lectura en curso
+     */
+    public double coalescingRatio() {
+        long served = followers.get();
+        long total = served + leaders.get() + followerTimeouts.get();
+        return total == 0 ? 0 : (double) served / total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "leader", leaders, "Lecturas que consultaron la base de datos");
+        counter(registry, "follower", followers, "Lecturas servidas por una lectura idéntica en curso");
+        counter(registry, "timeout", followerTimeouts, "Lecturas que dejaron de esperar y consultaron por su cuenta");
+        Gauge.builder("user.read.coalescing.ratio", this, UserReadCoalescer::coalescingRatio)
+                .description("Fracción de lecturas de usuario agrupadas")
+                .register(registry);
+    }
+
+    private <T> T lead(FlightKey key, CompletableFuture<Object> flight, Supplier<T> loader) {
+        leaders.incrementAndGet();
+        try {
+            T result = loader.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return cause instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new IllegalStateException(cause);
+    }
+
+    private static void counter(MeterRegistry registry, String role, AtomicLong value, String description) {
+        FunctionCounter.builder("user.read.coalescing", value, AtomicLong::get)
+                .description(description)
+                .tag("role", role)
+                .register(registry);
+    }
+
+    private record FlightKey(String kind, String email, String variant) {
+    }
+}
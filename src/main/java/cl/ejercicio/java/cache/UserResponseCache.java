@@ -0,0 +1,258 @@
+package cl.ejercicio.java.cache;
+
+import cl.ejercicio.java.config.UserResponseCacheProperties;
+import cl.ejercicio.java.response.ResponseDto;
+import cl.ejercicio.java.response.UserResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caché de respuestas de usuario ya serializadas, indexadas por email.
+ * <p>
+ * Los bytes se guardan en buffers directos (fuera del heap) para no aumentar la presión sobre el GC,
+ * y los aciertos entregan ese mismo buffer de solo lectura, que se escribe en la respuesta sin copiarlo
+ * al heap. El total está acotado por {@code cache.user-response.max-bytes}; al superarlo se desalojan
+ * entradas en orden de inserción, dando una segunda oportunidad a las leídas recientemente.
+ * </p>
+ * <p>
+ * Las lecturas consultan un {@link ConcurrentHashMap} sin bloqueo. Las altas, reemplazos,
+ * invalidaciones y desalojos se hacen bajo un lock que mantiene el orden de inserción en un
+ * {@link LinkedHashMap}, de modo que una entrada quitada del caché deja de estar referenciada
+ * y su buffer puede liberarse.
+ * </p>
+ * <p>
+ * Cada escritura sobre un usuario publica un {@link UserChangedEvent}, que invalida la entrada
+ * de forma síncrona tras el commit. Un contador de generación evita que una lectura iniciada
+ * antes de la invalidación vuelva a guardar datos obsoletos.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class UserResponseCache {
+
+    private static final TypeReference<ResponseDto<UserResponseDto>> USER_RESPONSE_TYPE = new TypeReference<>() {
+    };
+
+    private final UserResponseCacheProperties properties;
+    private final ObjectMapper objectMapper;
+    private final UserReadCoalescer readCoalescer;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    /** Mismas entradas que {@code entries}, en orden de inserción; protegido por {@code lock}. */
+    private final LinkedHashMap<String, Entry> insertionOrder = new LinkedHashMap<>();
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Obtiene la respuesta cacheada o la construye, serializa y almacena.
+     *
+     * @param email  clave del usuario
+     * @param loader construye el cuerpo de la respuesta en caso de fallo de caché
+     * @return respuesta serializada
+     */
+    public CachedResponse getOrLoad(String email, Supplier<VersionedBody> loader) {
+        if (!properties.isEnabled()) {
+            return readCoalescer.load("response", email, null, () -> {
+                VersionedBody loaded = loader.get();
+                return new CachedResponse(ByteBuffer.wrap(serialize(loaded.body())), false, loaded.etag());
+            });
+        }
+        Entry cached = entries.get(email);
+        if (cached != null) {
+            cached.referenced = true;
+            return cached.response;
+        }
+
+        // Ante muchos fallos simultáneos del mismo usuario (por ejemplo, tras una actualización),
+        // solo el primero consulta la base de datos; el resto recibe la misma respuesta serializada
+        return readCoalescer.load("response", email, null, () -> {
+            long expectedGeneration = generation.get();
+            VersionedBody loaded = loader.get();
+            CachedResponse response = encode(serialize(loaded.body()), loaded.etag());
+            put(email, expectedGeneration, response);
+            return response;
+        });
+    }
+
+    /**
+     * Consulta la entrada cacheada sin marcarla como leída, para evaluar su ETag y codificación.
+     *
+     * @param email clave del usuario
+     * @return la respuesta si el usuario está en caché
+     */
+    public Optional<CachedResponse> peek(String email) {
+        Entry cached = entries.get(email);
+        return cached != null ? Optional.of(cached.response) : Optional.empty();
+    }
+
+    /**
+     * Obtiene el usuario cacheado sin consultar la base de datos, deserializando la respuesta guardada.
+     * Usado por las consultas masivas para servir aciertos de caché antes de ir a la base.
+     *
+     * @param email clave del usuario
+     * @return el DTO del usuario si está en caché
+     */
+    public Optional<UserResponseDto> findCachedUser(String email) {
+        Entry cached = entries.get(email);
+        if (cached == null) {
+            return Optional.empty();
+        }
+        cached.referenced = true;
+        try (InputStream json = cached.response.json()) {
+            return Optional.ofNullable(objectMapper.readValue(json, USER_RESPONSE_TYPE).getData());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Invalida la entrada del usuario modificado.
+     *
+     * @param event evento de escritura
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.email());
+    }
+
+    /**
+     * Elimina la entrada asociada al email.
+     *
+     * @param email clave del usuario
+     */
+    public void invalidate(String email) {
+        generation.incrementAndGet();
+        if (email == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            remove(email);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return bytes actualmente ocupados fuera del heap
+     */
+    public long usedBytes() {
+        return usedBytes.get();
+    }
+
+    /**
+     * @return cantidad de entradas cacheadas
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void put(String email, long expectedGeneration, CachedResponse response) {
+        if (response.size() > properties.getMaxBytes()) {
+            return;
+        }
+        Entry entry = new Entry(response);
+        lock.lock();
+        try {
+            // invalidate incrementa la generación antes de tomar el lock: si cambió, los datos pueden ser obsoletos
+            if (generation.get() != expectedGeneration) {
+                return;
+            }
+            remove(email);
+            entries.put(email, entry);
+            insertionOrder.put(email, entry);
+            usedBytes.addAndGet(entry.size());
+            evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Desaloja desde la entrada más antigua hasta volver bajo el límite. Una entrada leída desde la
+     * última pasada vuelve al final una sola vez por llamada, para que el ciclo siempre termine.
+     * Debe llamarse con {@code lock} tomado.
+     */
+    private void evict() {
+        int secondChances = insertionOrder.size();
+        while (usedBytes.get() > properties.getMaxBytes() && !insertionOrder.isEmpty()) {
+            Map.Entry<String, Entry> oldest = insertionOrder.pollFirstEntry();
+            Entry candidate = oldest.getValue();
+            if (candidate.referenced && secondChances-- > 0) {
+                candidate.referenced = false;
+                insertionOrder.putLast(oldest.getKey(), candidate);
+                continue;
+            }
+            entries.remove(oldest.getKey());
+            usedBytes.addAndGet(-candidate.size());
+        }
+    }
+
+    /**
+     * Quita la entrada de ambas estructuras. Debe llamarse con {@code lock} tomado.
+     */
+    private void remove(String email) {
+        Entry removed = insertionOrder.remove(email);
+        if (removed != null) {
+            entries.remove(email);
+            usedBytes.addAndGet(-removed.size());
+        }
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar la respuesta", e);
+        }
+    }
+
+    private CachedResponse encode(byte[] json, String etag) {
+        if (!properties.isGzip() || json.length < properties.getGzipMinBytes()) {
+            return new CachedResponse(ByteBuffer.wrap(json), false, etag);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new CachedResponse(ByteBuffer.wrap(out.toByteArray()), true, etag);
+    }
+
+    /**
+     * Entrada del caché con el cuerpo copiado a un buffer directo de solo lectura.
+     */
+    private static final class Entry {
+        private final CachedResponse response;
+        private volatile boolean referenced;
+
+        private Entry(CachedResponse loaded) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(loaded.size()).put(loaded.body().duplicate()).flip();
+            this.response = new CachedResponse(buffer.asReadOnlyBuffer(), loaded.gzip(), loaded.etag());
+        }
+
+        private int size() {
+            return response.size();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package cl.ejercicio.java.cache;
+
+/**
+ * Cuerpo de respuesta recién construido junto con el ETag de la versión que representa.
+ *
+ * @param body objeto a serializar
+ * @param etag ETag de la representación
+ */
+public record VersionedBody(Object body, String etag) {
+}
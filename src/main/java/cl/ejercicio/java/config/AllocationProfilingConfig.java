@@ -0,0 +1,48 @@
+package cl.ejercicio.java.config;
+
+import cl.ejercicio.java.metrics.AllocationEndpoint;
+import cl.ejercicio.java.metrics.AllocationProfilingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Bytes asignados por solicitud y endpoint ({@code http.server.requests.allocated} y
+ * {@code /actuator/allocations}). Sin {@code allocation-profiling.enabled=true} no se registra nada.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "allocation-profiling", name = "enabled", havingValue = "true")
+public class AllocationProfilingConfig {
+
+    /**
+     * Registra el filtro justo antes de la cadena de seguridad, para incluir el filtro JWT.
+     *
+     * @param registry registro de métricas
+     * @return registro del filtro
+     */
+    @Bean
+    public FilterRegistrationBean<AllocationProfilingFilter> allocationProfilingFilter(MeterRegistry registry) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            log.warn("La JVM no soporta medir la asignación por hilo; las solicitudes quedarán sin medir");
+        } else if (!threads.isThreadAllocatedMemoryEnabled()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+        FilterRegistrationBean<AllocationProfilingFilter> registration =
+                new FilterRegistrationBean<>(new AllocationProfilingFilter(registry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+
+    @Bean
+    public AllocationEndpoint allocationEndpoint(MeterRegistry registry) {
+        return new AllocationEndpoint(registry);
+    }
+}
@@ -0,0 +1,21 @@
+package cl.ejercicio.java.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Propiedades de la medición de bytes asignados por solicitud.
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "allocation-profiling")
+public class AllocationProfilingProperties {
+
+    /** Mide los bytes asignados por solicitud y publica {@code /actuator/allocations}. */
+    private boolean enabled = false;
+}
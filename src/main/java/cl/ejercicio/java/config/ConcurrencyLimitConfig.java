@@ -0,0 +1,55 @@
+package cl.ejercicio.java.config;
+
+import cl.ejercicio.java.limit.AdaptiveConcurrencyLimiter;
+import cl.ejercicio.java.limit.ConcurrencyLimitFilter;
+import cl.ejercicio.java.limit.ConcurrencyLimiters;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Limitador de concurrencia adaptativo delante de los controladores REST.
+ * <p>Sin él, bajo sobrecarga las solicitudes esperan en la cola de Tomcat y luego hasta 30 s por
+ * una conexión de Hikari; con él, el exceso se rechaza de inmediato con 503.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    /**
+     * Particiones del limitador; también registra sus métricas cuando hay un {@code MeterRegistry}.
+     *
+     * @param properties límites configurados
+     * @return las particiones
+     */
+    @Bean
+    public ConcurrencyLimiters concurrencyLimiters(ConcurrencyLimitProperties properties) {
+        return new ConcurrencyLimiters(
+                limiter("auth", properties.getAuth()),
+                limiter("read", properties.getRead()),
+                limiter("write", properties.getWrite()));
+    }
+
+    /**
+     * Registra el filtro antes que cualquier otro filtro de la aplicación, incluido Spring Security.
+     *
+     * @param limiters       particiones
+     * @param contentFormats formatos para el cuerpo del 503
+     * @return registro del filtro
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(ConcurrencyLimiters limiters,
+                                                                                 ContentFormats contentFormats) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(limiters, contentFormats));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(String name, ConcurrencyLimitProperties.Partition partition) {
+        return new AdaptiveConcurrencyLimiter(name, partition.getInitialLimit(),
+                partition.getMinLimit(), partition.getMaxLimit());
+    }
+}
@@ -0,0 +1,64 @@
+package cl.ejercicio.java.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Propiedades del limitador de concurrencia adaptativo por partición.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "concurrency-limit")
+@Validated
+public class ConcurrencyLimitProperties {
+
+    /**
+     * Habilita el rechazo temprano (503) de solicitudes sobre el límite.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Login, registro e introspección (dominados por BCrypt/JWT).
+     */
+    @Valid
+    private Partition auth = new Partition(8, 2, 64);
+
+    /**
+     * Consultas de usuarios (GET y POST /batch).
+     */
+    @Valid
+    private Partition read = new Partition(20, 4, 200);
+
+    /**
+     * Creación, actualización y eliminación de usuarios.
+     */
+    @Valid
+    private Partition write = new Partition(10, 2, 50);
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Partition {
+
+        /** Límite con el que arranca la partición. */
+        @Min(1)
+        private int initialLimit;
+
+        /** Límite mínimo, aun bajo sobrecarga sostenida. */
+        @Min(1)
+        private int minLimit;
+
+        /** Límite máximo. */
+        @Min(1)
+        private int maxLimit;
+    }
+}
@@ -0,0 +1,105 @@
+package cl.ejercicio.java.config;
+
+import cl.ejercicio.java.deadline.RequestDeadline;
+import cl.ejercicio.java.jdbc.CloseableDelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link DataSource} que limita las conexiones en uso con un semáforo justo del tamaño del pool.
+ * <p>Con hilos virtuales no hay un pool de hilos que acote la concurrencia: miles de solicitudes
+ * pueden pedir conexión a la vez. El semáforo las encola en orden de llegada antes de llegar a
+ * Hikari, y el permiso se libera al cerrar la conexión.</p>
+ */
+public class ConcurrencyLimitedDataSource extends CloseableDelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long timeoutMillis;
+
+    /**
+     * @param target  pool de conexiones
+     * @param permits conexiones simultáneas permitidas (el tamaño máximo del pool)
+     * @param timeout espera máxima por un permiso
+     */
+    public ConcurrencyLimitedDataSource(DataSource target, int permits, Duration timeout) {
+        super(target);
+        this.permits = new Semaphore(permits, true);
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return limited(obtain(() -> super.getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return limited(obtain(() -> super.getConnection(username, password)));
+    }
+
+    /**
+     * @return solicitudes esperando un permiso (aproximado)
+     */
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Espera un permiso como máximo {@code timeout}, o lo que reste del plazo de la solicitud si es menor.
+     */
+    private void acquire() throws SQLException {
+        long waitMillis = RequestDeadline.boundMillis(timeoutMillis);
+        try {
+            if (!permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "No hay conexiones disponibles tras " + waitMillis + " ms (" + permits.getQueueLength() + " en espera)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrumpido esperando una conexión", e);
+        }
+    }
+
+    private Connection obtain(ConnectionSupplier supplier) throws SQLException {
+        try {
+            return supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Envuelve la conexión para devolver el permiso en el primer {@code close()}.
+     */
+    private Connection limited(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return proxy(Connection.class, (proxy, method, args) -> {
+            if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                try {
+                    connection.close();
+                } finally {
+                    if (released.compareAndSet(false, true)) {
+                        permits.release();
+                    }
+                }
+                return null;
+            }
+            return invoke(connection, method, args);
+        });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
@@ -0,0 +1,188 @@
+package cl.ejercicio.java.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import cl.ejercicio.java.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Formatos de intercambio soportados (JSON, CBOR y Smile) y su negociación a partir de {@code Accept},
+ * para las respuestas que se serializan fuera de los conversores de Spring MVC
+ * (caché de respuestas y manejadores de seguridad). JSON es el formato por defecto.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentFormats {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf(APPLICATION_SMILE_VALUE);
+
+    /** Formatos en orden de preferencia ante comodines o empates. */
+    private static final List<MediaType> SUPPORTED = List.of(
+            MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, APPLICATION_SMILE);
+
+    private final ObjectMapper objectMapper;
+    private final MappingJackson2CborHttpMessageConverter cborConverter;
+    private final MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    /**
+     * Elige el formato de respuesta según {@code Accept}: el soportado con mayor calidad,
+     * prefiriendo tipos explícitos sobre comodines.
+     *
+     * @param accept valor del encabezado Accept, o null
+     * @return JSON, CBOR o Smile; JSON si no hay coincidencias o el encabezado es inválido
+     */
+    public static MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        MediaType best = MediaType.APPLICATION_JSON;
+        double bestQuality = -1;
+        boolean bestExplicit = false;
+        for (MediaType candidate : accepted) {
+            double quality = candidate.getQualityValue();
+            if (quality <= 0) {
+                continue;
+            }
+            for (MediaType supported : SUPPORTED) {
+                if (!candidate.includes(supported)) {
+                    continue;
+                }
+                boolean explicit = !candidate.isWildcardType() && !candidate.isWildcardSubtype();
+                if (quality > bestQuality || (quality == bestQuality && explicit && !bestExplicit)) {
+                    best = supported;
+                    bestQuality = quality;
+                    bestExplicit = explicit;
+                }
+                break;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Indica si {@code Accept-Encoding} admite gzip con calidad mayor que cero, ya sea
+     * explícitamente ({@code gzip}, {@code x-gzip}) o mediante {@code *}.
+     *
+     * @param acceptEncoding valor del encabezado Accept-Encoding, o null
+     * @return true si se puede responder con {@code Content-Encoding: gzip}
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double wildcard = 0;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].strip();
+            double quality = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].strip();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).strip());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (name.equalsIgnoreCase("gzip") || name.equalsIgnoreCase("x-gzip")) {
+                return quality > 0;
+            }
+            if (name.equals("*")) {
+                wildcard = quality;
+            }
+        }
+        return wildcard > 0;
+    }
+
+    /**
+     * @param mediaType formato devuelto por {@link #negotiate}
+     * @return true si es JSON
+     */
+    public static boolean isJson(MediaType mediaType) {
+        return MediaType.APPLICATION_JSON.isCompatibleWith(mediaType);
+    }
+
+    /**
+     * @param mediaType formato devuelto por {@link #negotiate}
+     * @return mapper configurado para ese formato
+     */
+    public ObjectMapper mapperFor(MediaType mediaType) {
+        if (MediaType.APPLICATION_CBOR.isCompatibleWith(mediaType)) {
+            return cborConverter.getObjectMapper();
+        }
+        if (APPLICATION_SMILE.isCompatibleWith(mediaType)) {
+            return smileConverter.getObjectMapper();
+        }
+        return objectMapper;
+    }
+
+    /**
+     * Escribe un {@link ErrorResponse} con el estado indicado en el formato negociado a partir de
+     * {@code Accept}, para los errores que se responden fuera de los controladores (filtros y
+     * manejadores de seguridad).
+     *
+     * @param request solicitud, para negociar el formato
+     * @param response respuesta aún no confirmada
+     * @param status código de estado HTTP
+     * @param message mensaje de error
+     * @throws IOException si falla la escritura del cuerpo
+     */
+    public void writeError(HttpServletRequest request, HttpServletResponse response,
+                           int status, String message) throws IOException {
+        response.setStatus(status);
+        MediaType format = negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        response.setContentType(format.toString());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .errors(Collections.singletonList(message))
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        response.getOutputStream().write(mapperFor(format).writeValueAsBytes(errorResponse));
+    }
+
+    /**
+     * Convierte un documento JSON ya serializado al formato indicado copiando los tokens,
+     * sin materializar el árbol ni los DTOs.
+     *
+     * @param json documento JSON; se cierra al terminar
+     * @param mediaType formato de destino
+     * @return documento en el formato de destino
+     */
+    public byte[] transcode(InputStream json, MediaType mediaType) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonParser parser = objectMapper.getFactory().createParser(json);
+             JsonGenerator generator = mapperFor(mediaType).getFactory().createGenerator(out)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -1,11 +1,15 @@
 package cl.ejercicio.java.config;
 
+import cl.ejercicio.java.jdbc.StatementCountingDataSource;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 import javax.sql.DataSource;
+import java.time.Duration;
 
 /**
  * Configuración personalizada para el pool de conexiones HikariCP.
@@ -15,11 +19,17 @@ public class DataSourceConfig {
 
     /**
      * Configura manualmente el pool de conexiones HikariCP.
+     * <p>El pool se envuelve en {@link DeadlineAwareDataSource} para acotar esperas y consultas al plazo
+     * de la solicitud y, con {@code statement-stats.enabled}, en {@link StatementCountingDataSource} para
+     * contar las sentencias de cada solicitud. En modo de hilos virtuales además se envuelve en {@link ConcurrencyLimitedDataSource}
+     * para que las solicitudes esperen en orden por uno de sus {@code maximumPoolSize} permisos.</p>
      *
+     * @param environment    entorno, para detectar {@code spring.threads.virtual.enabled}
+     * @param statementStats propiedades del registro de sentencias
      * @return instancia personalizada de {@link DataSource}
      */
     @Bean
-    public DataSource dataSource() {
+    public DataSource dataSource(Environment environment, StatementStatsProperties statementStats) {
         HikariConfig config = new HikariConfig();
         config.setJdbcUrl("jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
         config.setDriverClassName("org.h2.Driver");
@@ -34,6 +44,14 @@ public class DataSourceConfig {
         config.setConnectionTimeout(30000);    // 30 segundos
         config.setLeakDetectionThreshold(20000); // 20 segundos
 
-        return new HikariDataSource(config);
+        DataSource dataSource = new DeadlineAwareDataSource(new HikariDataSource(config));
+        if (statementStats.isEnabled()) {
+            dataSource = new StatementCountingDataSource(dataSource);
+        }
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return new ConcurrencyLimitedDataSource(dataSource, config.getMaximumPoolSize(),
+                    Duration.ofMillis(config.getConnectionTimeout()));
+        }
+        return dataSource;
     }
 }
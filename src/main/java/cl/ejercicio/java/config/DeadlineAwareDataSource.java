@@ -0,0 +1,78 @@
+package cl.ejercicio.java.config;
+
+import cl.ejercicio.java.deadline.RequestDeadline;
+import cl.ejercicio.java.jdbc.CloseableDelegatingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * {@link javax.sql.DataSource} que aplica el plazo de la solicitud en curso ({@link RequestDeadline}):
+ * <ul>
+ *     <li>la espera por una conexión de Hikari se acota al tiempo restante (en vez de {@code connection-timeout});</li>
+ *     <li>cada sentencia creada recibe {@code queryTimeout} igual al tiempo restante, redondeado hacia arriba
+ *     a segundos (granularidad de JDBC).</li>
+ * </ul>
+ * Sin plazo enlazado (arranque, tareas internas) se comporta como el pool.
+ */
+public class DeadlineAwareDataSource extends CloseableDelegatingDataSource {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    private final HikariDataSource hikari;
+    private final HikariPool pool;
+
+    /**
+     * @param hikari pool ya inicializado
+     */
+    public DeadlineAwareDataSource(HikariDataSource hikari) {
+        super(hikari);
+        this.hikari = hikari;
+        this.pool = (HikariPool) hikari.getHikariPoolMXBean();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Optional<RequestDeadline> deadline = RequestDeadline.current();
+        if (deadline.isEmpty()) {
+            return hikari.getConnection();
+        }
+        long remaining = deadline.get().remainingMillis();
+        if (remaining <= 0) {
+            throw new SQLTimeoutException("Plazo de la solicitud agotado antes de obtener una conexión");
+        }
+        return withQueryTimeout(pool.getConnection(Math.min(remaining, hikari.getConnectionTimeout())));
+    }
+
+    /**
+     * Envuelve la conexión para fijar el {@code queryTimeout} de cada sentencia según el plazo restante.
+     */
+    private static Connection withQueryTimeout(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement && STATEMENT_FACTORIES.contains(method.getName())) {
+                applyQueryTimeout(statement);
+            }
+            return result;
+        });
+    }
+
+    private static void applyQueryTimeout(Statement statement) throws SQLException {
+        Optional<RequestDeadline> deadline = RequestDeadline.current();
+        if (deadline.isEmpty()) {
+            return;
+        }
+        long remaining = deadline.get().remainingMillis();
+        if (remaining <= 0) {
+            statement.close();
+            throw new SQLTimeoutException("Plazo de la solicitud agotado antes de ejecutar la consulta");
+        }
+        statement.setQueryTimeout((int) Math.ceilDiv(remaining, 1000L));
+    }
+}
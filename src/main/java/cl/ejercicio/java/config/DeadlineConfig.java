@@ -0,0 +1,34 @@
+package cl.ejercicio.java.config;
+
+import cl.ejercicio.java.deadline.DeadlineFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Plazo por solicitud: lo aplican la espera por conexiones ({@link DeadlineAwareDataSource}), el
+ * {@code queryTimeout} de cada sentencia JDBC y la espera del registro por el hash BCrypt.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "deadline", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DeadlineConfig {
+
+    /**
+     * Registra el filtro justo después del limitador de concurrencia, de modo que el plazo
+     * corre desde que la solicitud es admitida.
+     *
+     * @param properties     presupuestos configurados
+     * @param contentFormats formatos para el cuerpo del 504
+     * @return registro del filtro
+     */
+    @Bean
+    public FilterRegistrationBean<DeadlineFilter> deadlineFilter(DeadlineProperties properties,
+                                                                 ContentFormats contentFormats) {
+        FilterRegistrationBean<DeadlineFilter> registration =
+                new FilterRegistrationBean<>(new DeadlineFilter(properties, contentFormats));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
@@ -0,0 +1,52 @@
+package cl.ejercicio.java.config;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Propiedades del plazo por solicitud.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "deadline")
+@Validated
+public class DeadlineProperties {
+
+    /**
+     * Habilita el plazo por solicitud.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Encabezado con el tiempo que el cliente está dispuesto a esperar, en milisegundos.
+     */
+    @NotBlank
+    private String header = "X-Request-Timeout";
+
+    /**
+     * Plazo de las solicitudes sin encabezado ni presupuesto de ruta.
+     */
+    @NotNull
+    private Duration defaultBudget = Duration.ofSeconds(2);
+
+    /**
+     * Tope del plazo, aunque el cliente pida más.
+     */
+    @NotNull
+    private Duration maxBudget = Duration.ofSeconds(30);
+
+    /**
+     * Presupuesto por prefijo de ruta (por ejemplo {@code /api/v1/auth/register: 3s}).
+     */
+    private Map<String, Duration> endpoints = new LinkedHashMap<>();
+}
@@ -0,0 +1,33 @@
+package cl.ejercicio.java.config;
+
+import cl.ejercicio.java.grpc.BearerTokenInterceptor;
+import cl.ejercicio.java.grpc.GrpcServerLifecycle;
+import cl.ejercicio.java.grpc.UserLookupGrpcService;
+import cl.ejercicio.java.security.jwt.JwtService;
+import cl.ejercicio.java.security.jwt.TokenIntrospectionService;
+import cl.ejercicio.java.service.UserService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Servidor gRPC opcional con {@code GetUser}, {@code BatchGetUsers} e {@code IntrospectToken}.
+ * <p>Controlado por {@code grpc.server.enabled} (deshabilitado por defecto).</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "grpc.server", name = "enabled", havingValue = "true")
+public class GrpcServerConfig {
+
+    @Bean
+    public UserLookupGrpcService userLookupGrpcService(UserService userService,
+                                                       TokenIntrospectionService tokenIntrospectionService) {
+        return new UserLookupGrpcService(userService, tokenIntrospectionService);
+    }
+
+    @Bean
+    public GrpcServerLifecycle grpcServerLifecycle(GrpcServerProperties properties,
+                                                   UserLookupGrpcService userLookupGrpcService,
+                                                   JwtService jwtService) {
+        return new GrpcServerLifecycle(properties, userLookupGrpcService, new BearerTokenInterceptor(jwtService));
+    }
+}
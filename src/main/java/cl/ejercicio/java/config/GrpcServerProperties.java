@@ -0,0 +1,38 @@
+package cl.ejercicio.java.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Propiedades del servidor gRPC embebido.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "grpc.server")
+@Validated
+public class GrpcServerProperties {
+
+    /**
+     * Levanta el servidor gRPC junto a la API REST.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Puerto TCP del servidor; 0 asigna uno libre.
+     */
+    @Min(0)
+    @Max(65535)
+    private int port = 9090;
+
+    /**
+     * Si se define, publica además los servicios en un servidor in-process con este nombre
+     * (para pruebas y clientes dentro de la misma JVM).
+     */
+    private String inProcessName;
+}
@@ -0,0 +1,52 @@
+package cl.ejercicio.java.config;
+
+import cl.ejercicio.java.dto.UserField;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Configuración adicional del {@code ObjectMapper} de la aplicación.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Registra el filtro de campos de usuario serializando todo por defecto;
+     * las respuestas con {@code fields=} lo reemplazan por uno restringido.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer userFieldsFilterCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .addFilter(UserField.FILTER_ID, SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    /**
+     * Conversor {@code application/cbor} construido con la misma configuración que el de JSON
+     * (formatos de fecha, módulos y filtros). Reemplaza al conversor por defecto de Spring MVC,
+     * que ignora los customizers de Spring Boot.
+     *
+     * @param builder builder de Spring Boot (prototipo, una instancia por inyección)
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Conversor {@code application/x-jackson-smile} equivalente al de CBOR.
+     *
+     * @param builder builder de Spring Boot (prototipo, una instancia por inyección)
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,71 @@
+package cl.ejercicio.java.config;
+
+import cl.ejercicio.java.monitoring.jfr.JfrEndpoint;
+import cl.ejercicio.java.monitoring.jfr.JfrRecorder;
+import cl.ejercicio.java.monitoring.jfr.RepositoryCallInterceptor;
+import cl.ejercicio.java.monitoring.jfr.SerializationEventAdvice;
+import cl.ejercicio.java.monitoring.jfr.SlowEventAggregator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Eventos de JDK Flight Recorder de la aplicación (verificación JWT, BCrypt, carga del usuario,
+ * repositorios y serialización), grabación continua bajo demanda y agregador de eventos lentos.
+ * <p>Los eventos no cuestan casi nada mientras ninguna grabación los tenga habilitados.</p>
+ */
+@Configuration
+@RequiredArgsConstructor
+public class JfrConfig implements WebMvcConfigurer {
+
+    private final SerializationEventAdvice serializationEventAdvice;
+
+    @Bean(destroyMethod = "close")
+    public JfrRecorder jfrRecorder(JfrProperties properties) {
+        JfrProperties.Recording recording = properties.getRecording();
+        return new JfrRecorder(recording.getSettings(), recording.getMaxAge(), recording.getMaxSize());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "jfr.aggregator", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public SlowEventAggregator slowEventAggregator(JfrProperties properties) {
+        JfrProperties.Aggregator aggregator = properties.getAggregator();
+        return new SlowEventAggregator(aggregator.getThreshold(), aggregator.getWindow(), aggregator.getTopN());
+    }
+
+    @Bean
+    public JfrEndpoint jfrEndpoint(JfrRecorder jfrRecorder, ObjectProvider<SlowEventAggregator> slowEventAggregator) {
+        return new JfrEndpoint(jfrRecorder, slowEventAggregator.getIfAvailable());
+    }
+
+    /**
+     * Agrega {@link RepositoryCallInterceptor} al proxy de cada repositorio de Spring Data.
+     *
+     * @return post-procesador de las fábricas de repositorios
+     */
+    @Bean
+    public static BeanPostProcessor repositoryCallEventPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, information) -> proxyFactory.addAdvice(
+                                    new RepositoryCallInterceptor(information.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(serializationEventAdvice);
+    }
+}
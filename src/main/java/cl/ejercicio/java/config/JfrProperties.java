@@ -0,0 +1,69 @@
+package cl.ejercicio.java.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de JDK Flight Recorder: grabación continua bajo demanda ({@code /actuator/jfr}) y
+ * agregador de los eventos más lentos.
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "jfr")
+public class JfrProperties {
+
+    @Valid
+    private Recording recording = new Recording();
+
+    @Valid
+    private Aggregator aggregator = new Aggregator();
+
+    @Getter
+    @Setter
+    public static class Recording {
+
+        /** Configuración JFR base ({@code default} o {@code profile}). */
+        @NotBlank
+        private String settings = "default";
+
+        /** Antigüedad máxima retenida; también es el tope de lo que se pide al iniciar. */
+        @NotNull
+        private Duration maxAge = Duration.ofMinutes(15);
+
+        /** Tamaño máximo retenido; también es el tope de lo que se pide al iniciar. */
+        @NotNull
+        private DataSize maxSize = DataSize.ofMegabytes(64);
+    }
+
+    @Getter
+    @Setter
+    public static class Aggregator {
+
+        /** Sigue en vivo los eventos de la aplicación y conserva los más lentos. */
+        private boolean enabled = true;
+
+        /** Duración mínima de un evento para considerarlo. */
+        @NotNull
+        private Duration threshold = Duration.ofMillis(5);
+
+        /** Eventos conservados por tipo. */
+        @Min(1)
+        private int topN = 10;
+
+        /** Ventana de agregación; se informa la actual y la anterior. */
+        @NotNull
+        private Duration window = Duration.ofMinutes(1);
+    }
+}
@@ -0,0 +1,58 @@
+package cl.ejercicio.java.config;
+
+import cl.ejercicio.java.metrics.EndpointMetricsFilter;
+import cl.ejercicio.java.metrics.OperationMetrics;
+import cl.ejercicio.java.metrics.RepositoryInvocationMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Métricas por endpoint de las operaciones internas: verificación JWT ({@code jwt.validation}),
+ * BCrypt ({@code password.encoder}) y repositorios ({@code repository.invocations}).
+ * <p>Los endpoints HTTP, el pool de Hikari y las estadísticas de Hibernate los publica Actuator
+ * ({@code http.server.requests}, {@code hikaricp.*}, {@code hibernate.*}).</p>
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Registra el filtro después del plazo por solicitud y antes de la cadena de seguridad, para
+     * que las mediciones del filtro JWT queden asociadas a su endpoint.
+     *
+     * @param operationMetrics destino de las mediciones
+     * @return registro del filtro
+     */
+    @Bean
+    public FilterRegistrationBean<EndpointMetricsFilter> endpointMetricsFilter(OperationMetrics operationMetrics) {
+        FilterRegistrationBean<EndpointMetricsFilter> registration =
+                new FilterRegistrationBean<>(new EndpointMetricsFilter(operationMetrics));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 3);
+        return registration;
+    }
+
+    /**
+     * Agrega {@link RepositoryInvocationMetrics} a cada repositorio de Spring Data.
+     *
+     * @param operationMetrics destino de las mediciones, resuelto en la primera invocación
+     * @return post-procesador de las fábricas de repositorios
+     */
+    @Bean
+    public static BeanPostProcessor repositoryInvocationMetricsPostProcessor(
+            ObjectProvider<OperationMetrics> operationMetrics) {
+        RepositoryInvocationMetrics listener = new RepositoryInvocationMetrics(operationMetrics::getObject);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(listener));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package cl.ejercicio.java.config;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de la agrupación de lecturas concurrentes de un mismo usuario.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "cache.read-coalescing")
+@Validated
+public class ReadCoalescingProperties {
+
+    /**
+     * Habilita la agrupación: solo la primera lectura concurrente consulta la base de datos.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Espera máxima de una lectura por el resultado de otra; al vencer consulta por su cuenta
+     * (protege contra una lectura líder bloqueada).
+     */
+    @NotNull
+    private Duration followerTimeout = Duration.ofMillis(500);
+}
@@ -1,13 +1,19 @@
 package cl.ejercicio.java.config;
 
+import cl.ejercicio.java.validation.PasswordRules;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.regex.Pattern;
+
 /**
  * Propiedades de validación de expresiones regulares para email y password.
+ * <p>Las expresiones se compilan una sola vez al enlazar las propiedades (y nuevamente si cambian),
+ * para no recompilarlas en cada validación.</p>
  */
 @Getter
 @Setter
@@ -25,4 +31,34 @@ public class RegexProperties {
      * Expresión regular para validar contraseñas.
      */
     private String password;
+
+    /**
+     * Patrón compilado de {@link #email}.
+     */
+    @Setter(AccessLevel.NONE)
+    private volatile Pattern emailPattern;
+
+    /**
+     * Patrón compilado de {@link #password}.
+     */
+    @Setter(AccessLevel.NONE)
+    private volatile Pattern passwordPattern;
+
+    /**
+     * Indica si {@link #password} corresponde a las reglas por defecto,
+     * que pueden evaluarse con {@link PasswordRules} en una sola pasada.
+     */
+    @Setter(AccessLevel.NONE)
+    private volatile boolean defaultPasswordRules;
+
+    public void setEmail(String email) {
+        this.email = email;
+        this.emailPattern = email != null ? Pattern.compile(email) : null;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+        this.passwordPattern = password != null ? Pattern.compile(password) : null;
+        this.defaultPasswordRules = PasswordRules.DEFAULT_REGEX.equals(password);
+    }
 }
@@ -1,5 +1,7 @@
 package cl.ejercicio.java.config;
 
+import cl.ejercicio.java.metrics.OperationMetrics;
+import cl.ejercicio.java.metrics.TimedPasswordEncoder;
 import cl.ejercicio.java.security.CustomUserDetailsService;
 import cl.ejercicio.java.security.SecurityConstants;
 import cl.ejercicio.java.security.auth.CustomAccessDeniedHandler;
@@ -45,7 +47,8 @@ public class SecurityConfig {
     private final CustomAccessDeniedHandler accessDeniedHandler;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   AuthenticationProvider authenticationProvider) throws Exception {
         return http
                 .csrf(csrf -> csrf.disable())
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -65,7 +68,7 @@ public class SecurityConfig {
                         .accessDeniedHandler(accessDeniedHandler)
                 )
                 .headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::sameOrigin))
-                .authenticationProvider(authenticationProvider())
+                .authenticationProvider(authenticationProvider)
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
@@ -76,16 +79,22 @@ public class SecurityConfig {
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(customUserDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
+    /**
+     * BCrypt medido en el timer {@code password.encoder}.
+     *
+     * @param operationMetrics destino de las mediciones
+     * @return codificador de contraseñas
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(OperationMetrics operationMetrics) {
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), operationMetrics);
     }
 
     @Bean
@@ -0,0 +1,46 @@
+package cl.ejercicio.java.config;
+
+import cl.ejercicio.java.security.context.ScopedSecurityContextFilter;
+import cl.ejercicio.java.security.context.ScopedValueSecurityContextHolderStrategy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+
+/**
+ * Reemplaza la estrategia {@code ThreadLocal} de {@link SecurityContextHolder} por
+ * {@link ScopedValueSecurityContextHolderStrategy} ({@code security.context.strategy=scoped-value}).
+ * Con {@code thread-local} se conserva el comportamiento por defecto de Spring Security.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "security.context", name = "strategy", havingValue = "scoped-value", matchIfMissing = true)
+public class SecurityContextConfig {
+
+    /**
+     * Estrategia global; Spring Security también la toma como bean para sus filtros.
+     *
+     * @return la estrategia respaldada por {@link ScopedValue}
+     */
+    @Bean
+    public SecurityContextHolderStrategy securityContextHolderStrategy() {
+        SecurityContextHolderStrategy strategy = new ScopedValueSecurityContextHolderStrategy();
+        SecurityContextHolder.setContextHolderStrategy(strategy);
+        return strategy;
+    }
+
+    /**
+     * Registra el filtro que enlaza el contexto justo antes de la cadena de Spring Security.
+     *
+     * @return registro del filtro
+     */
+    @Bean
+    public FilterRegistrationBean<ScopedSecurityContextFilter> scopedSecurityContextFilter() {
+        FilterRegistrationBean<ScopedSecurityContextFilter> registration =
+                new FilterRegistrationBean<>(new ScopedSecurityContextFilter());
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
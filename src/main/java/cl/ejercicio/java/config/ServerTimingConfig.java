@@ -0,0 +1,43 @@
+package cl.ejercicio.java.config;
+
+import cl.ejercicio.java.metrics.ServerTimingAdvice;
+import cl.ejercicio.java.metrics.ServerTimingFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Desglose de latencia por fase en el encabezado {@code Server-Timing} (JWT, carga del usuario, BCrypt,
+ * base de datos, servicio y serialización). Sin {@code server-timing.enabled=true} no se registra nada.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "server-timing", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ServerTimingConfig implements WebMvcConfigurer {
+
+    private final ServerTimingAdvice serverTimingAdvice;
+
+    /**
+     * Registra el filtro después de las métricas por endpoint y antes de la cadena de seguridad.
+     *
+     * @param properties propiedades del encabezado
+     * @return registro del filtro
+     */
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(ServerTimingProperties properties) {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(properties.isAccessLog()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 4);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(serverTimingAdvice);
+    }
+}
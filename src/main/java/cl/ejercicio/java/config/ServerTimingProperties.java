@@ -0,0 +1,24 @@
+package cl.ejercicio.java.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Propiedades del encabezado {@code Server-Timing} con el desglose de latencia por fase.
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "server-timing")
+public class ServerTimingProperties {
+
+    /** Mide las fases de cada solicitud; retiene el cuerpo de la respuesta hasta el final. */
+    private boolean enabled = false;
+
+    /** Escribe una línea por solicitud en el logger {@code http.access}. */
+    private boolean accessLog = true;
+}
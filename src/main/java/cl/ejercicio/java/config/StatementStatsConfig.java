@@ -0,0 +1,34 @@
+package cl.ejercicio.java.config;
+
+import cl.ejercicio.java.jdbc.StatementStatsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Sentencias JDBC por solicitud: {@link DataSourceConfig} envuelve el pool en
+ * {@link cl.ejercicio.java.jdbc.StatementCountingDataSource} y este filtro abre el ámbito de cada solicitud.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "statement-stats", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class StatementStatsConfig {
+
+    /**
+     * Registra el filtro justo antes de la cadena de seguridad, para incluir la carga del usuario del JWT.
+     *
+     * @param registry   registro de métricas
+     * @param properties umbral de sentencias repetidas
+     * @return registro del filtro
+     */
+    @Bean
+    public FilterRegistrationBean<StatementStatsFilter> statementStatsFilter(MeterRegistry registry,
+                                                                             StatementStatsProperties properties) {
+        FilterRegistrationBean<StatementStatsFilter> registration =
+                new FilterRegistrationBean<>(new StatementStatsFilter(registry, properties.getRepeatedThreshold()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 6);
+        return registration;
+    }
+}
@@ -0,0 +1,26 @@
+package cl.ejercicio.java.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Propiedades del registro de sentencias JDBC por solicitud.
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "statement-stats")
+public class StatementStatsProperties {
+
+    /** Cuenta las sentencias, filas y tiempo de cada solicitud ({@code jdbc.request.*}). */
+    private boolean enabled = true;
+
+    /** Ejecuciones de una misma sentencia en una solicitud a partir de las cuales se informa un posible N+1. */
+    @Min(2)
+    private int repeatedThreshold = 3;
+}
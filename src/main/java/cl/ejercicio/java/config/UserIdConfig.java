@@ -0,0 +1,29 @@
+package cl.ejercicio.java.config;
+
+import cl.ejercicio.java.id.RandomUuidGenerator;
+import cl.ejercicio.java.id.UserIdGenerator;
+import cl.ejercicio.java.id.UuidV7Generator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Selecciona la estrategia de generación de IDs de usuario.
+ * <p>Controlado por la propiedad {@code user.id.strategy}: {@code v7} (por defecto) o {@code v4}.
+ * Los usuarios existentes con UUID v4 siguen funcionando sin cambios.</p>
+ */
+@Configuration
+public class UserIdConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "user.id", name = "strategy", havingValue = "v7", matchIfMissing = true)
+    public UserIdGenerator uuidV7Generator() {
+        return new UuidV7Generator();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "user.id", name = "strategy", havingValue = "v4")
+    public UserIdGenerator randomUuidGenerator() {
+        return new RandomUuidGenerator();
+    }
+}
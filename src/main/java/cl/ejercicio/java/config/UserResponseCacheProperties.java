@@ -0,0 +1,41 @@
+package cl.ejercicio.java.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Propiedades del caché de respuestas serializadas de usuarios.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "cache.user-response")
+@Validated
+public class UserResponseCacheProperties {
+
+    /**
+     * Habilita el caché de respuestas de {@code GET /api/v1/users/getUser/{email}}.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Máximo de bytes (fuera del heap) ocupados por las respuestas cacheadas.
+     */
+    @Min(1024)
+    private long maxBytes = 64L * 1024 * 1024;
+
+    /**
+     * Almacena las respuestas comprimidas con gzip.
+     */
+    private boolean gzip = false;
+
+    /**
+     * Tamaño mínimo de la respuesta para comprimirla.
+     */
+    @Min(0)
+    private int gzipMinBytes = 1024;
+}
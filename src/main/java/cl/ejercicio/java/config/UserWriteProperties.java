@@ -0,0 +1,58 @@
+package cl.ejercicio.java.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de las escrituras sobre un usuario: turnos por usuario y reintentos ante conflictos
+ * de versión ({@code @Version}).
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "user.write")
+@Validated
+public class UserWriteProperties {
+
+    /**
+     * Serializa las escrituras de un mismo usuario en esta instancia (login, actualizaciones, baja).
+     */
+    private boolean serialize = true;
+
+    /**
+     * Cantidad de turnos (locks); los usuarios se reparten entre ellos por hash del email.
+     */
+    @Min(1)
+    private int stripes = 64;
+
+    /**
+     * Espera máxima por el turno de un usuario (acotada además por el plazo de la solicitud).
+     */
+    @NotNull
+    private Duration laneTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Intentos totales ante un conflicto de versión, incluido el primero.
+     */
+    @Min(1)
+    private int maxAttempts = 3;
+
+    /**
+     * Espera base antes del primer reintento; se duplica en cada intento, con jitter completo.
+     */
+    @NotNull
+    private Duration backoffBase = Duration.ofMillis(10);
+
+    /**
+     * Espera máxima entre reintentos.
+     */
+    @NotNull
+    private Duration backoffMax = Duration.ofMillis(200);
+}
@@ -0,0 +1,25 @@
+package cl.ejercicio.java.config;
+
+import cl.ejercicio.java.monitoring.VirtualThreadPinningMonitor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Componentes del modo de hilos virtuales.
+ * <p>Con {@code spring.threads.virtual.enabled=true} Spring Boot atiende las solicitudes de Tomcat
+ * y ejecuta las tareas {@code @Async} del {@code applicationTaskExecutor} en hilos virtuales;
+ * el límite de conexiones concurrentes lo aplica {@link DataSourceConfig}.</p>
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "virtual-threads", name = "pinning-monitor", havingValue = "true", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(VirtualThreadProperties properties) {
+        return new VirtualThreadPinningMonitor(properties.getPinningThreshold());
+    }
+}
@@ -0,0 +1,33 @@
+package cl.ejercicio.java.config;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del modo de hilos virtuales ({@code spring.threads.virtual.enabled=true}).
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "virtual-threads")
+@Validated
+public class VirtualThreadProperties {
+
+    /**
+     * Registra con JFR los hilos virtuales fijados a su hilo portador (por ejemplo, dentro de
+     * bloques {@code synchronized} de JDBC o Hibernate) y los informa en el log.
+     */
+    private boolean pinningMonitor = true;
+
+    /**
+     * Duración mínima de un fijado para informarlo.
+     */
+    @NotNull
+    private Duration pinningThreshold = Duration.ofMillis(20);
+}
@@ -1,17 +1,27 @@
 package cl.ejercicio.java.controller;
 
-import cl.ejercicio.java.config.RegexProperties;
+import cl.ejercicio.java.cache.CachedResponse;
+import cl.ejercicio.java.cache.UserCollectionVersion;
+import cl.ejercicio.java.cache.UserResponseCache;
+import cl.ejercicio.java.cache.VersionedBody;
+import cl.ejercicio.java.config.ContentFormats;
 import cl.ejercicio.java.dto.UserEmailDto;
+import cl.ejercicio.java.dto.UserField;
 import cl.ejercicio.java.entity.User;
 import cl.ejercicio.java.exception.ErrorResponse;
 import cl.ejercicio.java.exception.InvalidValueException;
 import cl.ejercicio.java.mapper.UserMapper;
+import cl.ejercicio.java.repository.UserVersion;
+import cl.ejercicio.java.request.UserBatchRequestDto;
 import cl.ejercicio.java.request.UserCreateRequestDto;
 import cl.ejercicio.java.request.UserUpdateRequestDto;
 import cl.ejercicio.java.response.ResponseDto;
+import cl.ejercicio.java.response.UserBatchResponseDto;
 import cl.ejercicio.java.response.UserResponseDto;
 import cl.ejercicio.java.service.UserService;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -20,11 +30,20 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * Controlador REST para operaciones relacionadas con usuarios.
@@ -39,8 +58,13 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
-    private final RegexProperties regexProperties;
     private final UserMapper userMapper;
+    private final UserResponseCache userResponseCache;
+    private final UserCollectionVersion userCollectionVersion;
+    private final ContentFormats contentFormats;
+
+    private static final String FIELDS_DESCRIPTION = "Campos a incluir separados por coma "
+            + "(id,name,email,phones,roles,created,modified,lastLogin,active); por defecto todos";
 
     /**
      * Crea un nuevo usuario en el sistema.
@@ -119,40 +143,158 @@ public class UserController {
 
     /**
      * Obtiene un usuario por su correo electrónico.
+     * <p>La respuesta se sirve desde {@link UserResponseCache} ya serializada; solo en un fallo
+     * de caché se consulta la base de datos, se mapea el DTO y se serializa.</p>
+     * <p>Incluye un ETag derivado de {@code (id, version)}. Si el cliente envía {@code If-None-Match},
+     * se compara contra el caché o contra una consulta liviana de la versión y se responde 304
+     * sin construir el DTO.</p>
+     * <p>Con {@code fields=} la consulta proyecta solo las columnas solicitadas y la respuesta
+     * no pasa por el caché; el ETag incluye la selección de campos.</p>
+     * <p>Según {@code Accept} responde JSON (por defecto), CBOR o Smile; los formatos binarios
+     * se obtienen transcodificando el JSON cacheado y tienen su propio ETag.</p>
+     * <p>Si el JSON cacheado está comprimido y el cliente acepta gzip se envía tal cual, con
+     * {@code Content-Encoding: gzip} y el sufijo {@code -gz} en el ETag, ya que son otros bytes.</p>
      *
      * @param email Correo electrónico del usuario a buscar
-     * @return ResponseOk con el usuario encontrado
+     * @param fields campos a incluir, o null para todos
+     * @param acceptEncoding encabezado Accept-Encoding del cliente
+     * @param request solicitud actual, para evaluar If-None-Match
+     * @return ResponseOk con el usuario encontrado, o 304 si no hubo cambios
      */
     @Operation(summary = "Obtiene un usuario por su email", description = "Devuelve los datos de un usuario mediante su email.", security = @SecurityRequirement(name = "BearerAuth"))
     @ApiResponse(responseCode = "200", description = "Usuario encontrado", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDto.class)))
+    @ApiResponse(responseCode = "304", description = "Sin cambios desde el ETag indicado")
     @ApiResponse(responseCode = "400", description = "Correo inválido", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "404", description = "Usuario no encontrado", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "403", description = "Sin privilegios", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     @PreAuthorize("hasAnyAuthority('ROLE_USER', 'ROLE_ADMIN')")
-    @GetMapping("/getUser/{email}")
-    @ResponseStatus(HttpStatus.OK)
-    public ResponseDto<UserResponseDto> getUser(@PathVariable String email) {
+    @GetMapping(value = "/getUser/{email}", produces = {MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, ContentFormats.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<ByteBuffer> getUser(@PathVariable String email,
+                                          @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                          WebRequest request) {
         log.info("Buscando usuario con email: {}", email);
-        isValidMail(email);
-        UserResponseDto user = userService.getUser(email);
-        return new ResponseDto<>("Usuario encontrado exitosamente", user);
+        Set<UserField> selected = UserField.parse(fields);
+        MediaType format = ContentFormats.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        if (!UserField.isAll(selected)) {
+            return getUserFields(email, selected, format, request);
+        }
+        boolean gzipAccepted = ContentFormats.isJson(format) && ContentFormats.acceptsGzip(acceptEncoding);
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            String currentEtag = userResponseCache.peek(email)
+                    .map(peeked -> representationEtag(peeked, format, gzipAccepted))
+                    .orElseGet(() -> versionEtag(email, format, gzipAccepted, ifNoneMatch));
+            if (currentEtag != null && request.checkNotModified(currentEtag)) {
+                return null;
+            }
+        }
+
+        CachedResponse cached = userResponseCache.getOrLoad(email, () -> {
+            User user = userService.findByEmail(email);
+            return new VersionedBody(
+                    new ResponseDto<>("Usuario encontrado exitosamente", userMapper.mapToUserResponseDto(user)),
+                    userEtag(user.getId(), user.getVersion()));
+        });
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format)
+                .cacheControl(CacheControl.noCache())
+                .eTag(representationEtag(cached, format, gzipAccepted))
+                .varyBy(HttpHeaders.ACCEPT);
+        if (!ContentFormats.isJson(format)) {
+            return response.body(ByteBuffer.wrap(contentFormats.transcode(cached.json(), format)));
+        }
+        if (!cached.gzip()) {
+            return response.body(cached.body());
+        }
+        response.varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzipAccepted) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(cached.body());
+        }
+        return response.body(ByteBuffer.wrap(cached.jsonBytes()));
+    }
+
+    /**
+     * Variante de {@link #getUser} con selección de campos: la versión se lee antes que los datos,
+     * por lo que un cambio concurrente solo produce un ETag más antiguo que la respuesta.
+     */
+    private ResponseEntity<ByteBuffer> getUserFields(String email, Set<UserField> fields, MediaType format, WebRequest request) {
+        String etag = withFormat(userEtag(userService.getUserVersion(email), fields), format);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        ResponseDto<UserResponseDto> body = new ResponseDto<>("Usuario encontrado exitosamente",
+                userService.getUser(email, fields));
+        try {
+            return ResponseEntity.ok()
+                    .contentType(format)
+                    .cacheControl(CacheControl.noCache())
+                    .eTag(etag)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(ByteBuffer.wrap(contentFormats.mapperFor(format).writer(UserField.filterProvider(fields)).writeValueAsBytes(body)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar la respuesta", e);
+        }
     }
 
     /**
      * Obtiene todos los usuarios registrados en el sistema.
+     * <p>El ETag corresponde al contador de cambios de la colección; con {@code If-None-Match}
+     * vigente se responde 304 sin consultar la base de datos.</p>
+     * <p>Con {@code fields=} solo se consultan y serializan los campos solicitados.</p>
      *
-     * @return ResponseOk con la lista de usuarios
+     * @param fields campos a incluir, o null para todos
+     * @param request solicitud actual, para evaluar If-None-Match
+     * @return ResponseOk con la lista de usuarios, o 304 si no hubo cambios
      */
     @Operation(summary = "Lista todos los usuarios", description = "Devuelve una lista con todos los usuarios registrados.", security = @SecurityRequirement(name = "BearerAuth"))
     @ApiResponse(responseCode = "200", description = "Lista de usuarios obtenida exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDto.class)))
+    @ApiResponse(responseCode = "304", description = "Sin cambios desde el ETag indicado")
     @ApiResponse(responseCode = "500", description = "Error interno al obtener usuarios", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "403", description = "Sin privilegios", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     @PreAuthorize("hasAnyAuthority('ROLE_USER', 'ROLE_ADMIN')")
     @GetMapping("/getAllUsers")
+    public ResponseEntity<MappingJacksonValue> getAllUsers(
+            @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields,
+            WebRequest request) {
+        Set<UserField> selected = UserField.parse(fields);
+        // Se toma antes de consultar: un cambio concurrente solo provoca una recarga extra
+        MediaType format = ContentFormats.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        String etag = withFormat(withVariant(userCollectionVersion.etag(), selected), format);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        List<UserResponseDto> users = userService.getAllUsers(selected);
+        return ResponseEntity.ok()
+                .contentType(format)
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(filtered(new ResponseDto<>("Lista de usuarios obtenida exitosamente", users), selected));
+    }
+
+    /**
+     * Obtiene varios usuarios por email y/o id en una sola solicitud.
+     *
+     * @param batchRequest emails e ids a buscar (máximo {@value UserBatchRequestDto#MAX_KEYS} en total)
+     * @param fields campos a incluir, o null para todos
+     * @return ResponseOk con los usuarios encontrados indexados por clave y las claves inexistentes
+     */
+    @Operation(summary = "Obtiene varios usuarios", description = "Resuelve hasta " + UserBatchRequestDto.MAX_KEYS + " emails o ids en una sola solicitud e informa los que no existen.", security = @SecurityRequirement(name = "BearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Usuarios obtenidos", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDto.class)))
+    @ApiResponse(responseCode = "400", description = "Solicitud incorrecta", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "401", description = "No autorizado", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "403", description = "Sin privilegios", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    @PreAuthorize("hasAnyAuthority('ROLE_USER', 'ROLE_ADMIN')")
+    @PostMapping("/batch")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseDto<List<UserResponseDto>> getAllUsers() {
-        List<UserResponseDto> users = userService.getAllUsers();
-        return new ResponseDto<>("Lista de usuarios obtenida exitosamente", users);
+    public MappingJacksonValue getUsers(@Valid @RequestBody UserBatchRequestDto batchRequest,
+                                        @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields) {
+        Set<UserField> selected = UserField.parse(fields);
+        UserBatchResponseDto users = userService.getUsers(batchRequest.getEmails(), batchRequest.getIds(), selected);
+        return filtered(new ResponseDto<>("Usuarios obtenidos exitosamente", users), selected);
     }
 
     /**
@@ -173,16 +315,70 @@ public class UserController {
     public ResponseDto<String> deleteUserByEmail(@PathVariable String email) {
 
         log.info("Intentando eliminar usuario con email: {}", email);
-        isValidMail(email);
         userService.deleteUserByEmail(new UserEmailDto(email));
         log.info("Usuario con email {} eliminado exitosamente", email);
         return new ResponseDto<>("Usuario eliminado exitosamente", email);
     }
 
-    private void isValidMail(String email) {
-        if (email == null || email.isBlank() || !email.matches(regexProperties.getEmail())) {
-            log.error("Formato de email inválido: {}", email);
-            throw new InvalidValueException("Email inválido");
+    private static String userEtag(UserVersion version) {
+        return userEtag(version.getId(), version.getVersion());
+    }
+
+    private static String userEtag(UUID id, Long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    private static String userEtag(UserVersion version, Set<UserField> fields) {
+        return withVariant(userEtag(version), fields);
+    }
+
+    private static String withVariant(String etag, Set<UserField> fields) {
+        if (UserField.isAll(fields)) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + "-f" + UserField.variant(fields) + "\"";
+    }
+
+    private static String withFormat(String etag, MediaType format) {
+        if (ContentFormats.isJson(format)) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + "-" + format.getSubtype() + "\"";
+    }
+
+    private static String withGzip(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-gz\"";
+    }
+
+    /**
+     * ETag de la respuesta de {@link #getUser} para el cuerpo cacheado: formato y, si se envía
+     * comprimido, codificación.
+     */
+    private static String representationEtag(CachedResponse cached, MediaType format, boolean gzipAccepted) {
+        String etag = withFormat(cached.etag(), format);
+        return cached.gzip() && gzipAccepted ? withGzip(etag) : etag;
+    }
+
+    /**
+     * ETag de {@link #getUser} calculado desde la versión, cuando la respuesta no está en caché.
+     * Sin el cuerpo no se sabe si iría comprimido: si el cliente acepta gzip solo se usa la variante
+     * que ya tiene, y null si no tiene ninguna, porque {@code checkNotModified} fijaría un ETag
+     * que quizá no corresponda al cuerpo enviado.
+     */
+    private String versionEtag(String email, MediaType format, boolean gzipAccepted, String ifNoneMatch) {
+        String etag = withFormat(userEtag(userService.getUserVersion(email)), format);
+        if (!gzipAccepted) {
+            return etag;
         }
+        if (ifNoneMatch.contains(withGzip(etag))) {
+            return withGzip(etag);
+        }
+        return ifNoneMatch.contains(etag) ? etag : null;
+    }
+
+    private static MappingJacksonValue filtered(Object body, Set<UserField> fields) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(UserField.filterProvider(fields));
+        return value;
     }
-}
\ No newline at end of file
+}
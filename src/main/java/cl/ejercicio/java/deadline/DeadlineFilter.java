@@ -0,0 +1,94 @@
+package cl.ejercicio.java.deadline;
+
+import cl.ejercicio.java.config.ContentFormats;
+import cl.ejercicio.java.config.DeadlineProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Asigna a cada solicitud un plazo y lo enlaza en {@link RequestDeadline} alrededor del resto de la cadena.
+ * <p>El plazo sale del encabezado configurado ({@code X-Request-Timeout}, en milisegundos) o, si no viene,
+ * del presupuesto de la ruta ({@code deadline.endpoints}, por prefijo más largo) o del presupuesto por
+ * defecto; nunca supera {@code deadline.max-budget}. Un plazo ya vencido se responde de inmediato con 504.</p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private final DeadlineProperties properties;
+    private final ContentFormats contentFormats;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Duration budget = budgetFor(request);
+        if (budget.isZero() || budget.isNegative()) {
+            log.debug("Solicitud {} recibida con el plazo vencido", request.getRequestURI());
+            reject(request, response);
+            return;
+        }
+
+        RequestDeadline deadline = RequestDeadline.after(budget);
+        try {
+            deadline.call(() -> {
+                filterChain.doFilter(request, response);
+                return null;
+            });
+        } catch (Exception e) {
+            // Fallas fuera de los controladores (por ejemplo, al cargar el usuario del JWT) terminarían en
+            // el despacho de /error; si se deben al plazo vencido se responden aquí mismo con 504
+            if (deadline.isExpired() && !response.isCommitted()) {
+                log.warn("Plazo de {} ms agotado en {}: {}", budget.toMillis(), request.getRequestURI(), e.getMessage());
+                response.reset();
+                reject(request, response);
+                return;
+            }
+            switch (e) {
+                case IOException ioException -> throw ioException;
+                case ServletException servletException -> throw servletException;
+                case RuntimeException runtimeException -> throw runtimeException;
+                default -> throw new ServletException(e);
+            }
+        }
+    }
+
+    private Duration budgetFor(HttpServletRequest request) {
+        Duration budget = pathBudget(request.getServletPath());
+        String header = request.getHeader(properties.getHeader());
+        if (header != null) {
+            try {
+                budget = Duration.ofMillis(Long.parseLong(header.trim()));
+            } catch (NumberFormatException e) {
+                log.debug("Encabezado {} inválido: {}", properties.getHeader(), header);
+            }
+        }
+        return budget.compareTo(properties.getMaxBudget()) > 0 ? properties.getMaxBudget() : budget;
+    }
+
+    private Duration pathBudget(String path) {
+        Duration budget = properties.getDefaultBudget();
+        int longest = -1;
+        for (Map.Entry<String, Duration> entry : properties.getEndpoints().entrySet()) {
+            if (path.startsWith(entry.getKey()) && entry.getKey().length() > longest) {
+                longest = entry.getKey().length();
+                budget = entry.getValue();
+            }
+        }
+        return budget;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        contentFormats.writeError(request, response, HttpServletResponse.SC_GATEWAY_TIMEOUT,
+                "El plazo de la solicitud se agotó.");
+    }
+}
@@ -0,0 +1,105 @@
+package cl.ejercicio.java.deadline;
+
+import cl.ejercicio.java.exception.DeadlineExceededException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * Plazo de la solicitud en curso, enlazado en un {@link ScopedValue} por {@link DeadlineFilter}.
+ * <p>Las subtareas de un {@code StructuredTaskScope} heredan el enlace, de modo que el acceso a la
+ * base de datos y el hash BCrypt que corren en paralelo respetan el mismo plazo.</p>
+ */
+public final class RequestDeadline {
+
+    private static final ScopedValue<RequestDeadline> CURRENT = ScopedValue.newInstance();
+
+    private final long deadlineNanos;
+    private final Duration budget;
+
+    private RequestDeadline(Duration budget) {
+        this.budget = budget;
+        this.deadlineNanos = System.nanoTime() + budget.toNanos();
+    }
+
+    /**
+     * @param budget tiempo disponible desde ahora
+     * @return un plazo que vence tras {@code budget}
+     */
+    public static RequestDeadline after(Duration budget) {
+        return new RequestDeadline(budget);
+    }
+
+    /**
+     * Ejecuta {@code operation} con este plazo como plazo actual.
+     *
+     * @param operation operación a ejecutar
+     * @param <T>       tipo del resultado
+     * @return el resultado de {@code operation}
+     * @throws Exception la excepción lanzada por {@code operation}
+     */
+    public <T> T call(Callable<T> operation) throws Exception {
+        return ScopedValue.where(CURRENT, this).call(operation);
+    }
+
+    /**
+     * @return el plazo de la solicitud en curso, si lo hay
+     */
+    public static Optional<RequestDeadline> current() {
+        return CURRENT.isBound() ? Optional.of(CURRENT.get()) : Optional.empty();
+    }
+
+    /**
+     * Acota una espera al tiempo restante del plazo actual.
+     *
+     * @param timeoutMillis espera configurada
+     * @return el menor entre {@code timeoutMillis} y el tiempo restante (0 si ya venció)
+     */
+    public static long boundMillis(long timeoutMillis) {
+        return current()
+                .map(deadline -> Math.min(timeoutMillis, deadline.remainingMillis()))
+                .orElse(timeoutMillis);
+    }
+
+    /**
+     * Falla si el plazo actual ya venció, para no iniciar trabajo que nadie espera.
+     *
+     * @param stage etapa que se iba a ejecutar
+     * @throws DeadlineExceededException si el plazo venció
+     */
+    public static void checkNotExpired(String stage) {
+        current().filter(RequestDeadline::isExpired).ifPresent(deadline -> {
+            throw new DeadlineExceededException("Plazo de " + deadline.budget.toMillis() + " ms agotado antes de: " + stage);
+        });
+    }
+
+    /**
+     * @return milisegundos restantes (0 si ya venció)
+     */
+    public long remainingMillis() {
+        return Math.max(0, Duration.ofNanos(deadlineNanos - System.nanoTime()).toMillis());
+    }
+
+    /**
+     * @return true si el plazo venció
+     */
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * @return instante de reloj en que vence el plazo (para APIs que esperan un {@link Instant})
+     */
+    public Instant toInstant() {
+        return Instant.now().plusNanos(deadlineNanos - System.nanoTime());
+    }
+
+    /**
+     * @return presupuesto total asignado a la solicitud
+     */
+    public Duration getBudget() {
+        return budget;
+    }
+}
@@ -0,0 +1,119 @@
+package cl.ejercicio.java.dto;
+
+import cl.ejercicio.java.entity.User_;
+import cl.ejercicio.java.exception.InvalidValueException;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Campos de {@code UserResponseDto} que pueden solicitarse con el parámetro {@code fields=}.
+ * <p>Cada campo conoce su nombre en el JSON y, si es una columna escalar, el atributo de
+ * {@code User} que debe proyectarse en la consulta.</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum UserField {
+
+    ID("id", User_.ID),
+    NAME("name", User_.NAME),
+    EMAIL("email", User_.EMAIL),
+    PHONES("phones", null),
+    ROLES("roles", null),
+    CREATED("created", User_.CREATED),
+    MODIFIED("modified", User_.MODIFIED),
+    LAST_LOGIN("lastLogin", User_.LAST_LOGIN),
+    ACTIVE("active", User_.IS_ACTIVE);
+
+    /** Identificador del filtro Jackson declarado en {@code UserResponseDto}. */
+    public static final String FILTER_ID = "userFields";
+
+    private static final Set<UserField> ALL = Collections.unmodifiableSet(EnumSet.allOf(UserField.class));
+
+    private final String jsonName;
+
+    /** Atributo de la entidad, o null si el campo es una colección. */
+    private final String attribute;
+
+    /**
+     * Interpreta el parámetro {@code fields=} (nombres separados por coma).
+     *
+     * @param fields valor del parámetro; null o vacío equivale a todos los campos
+     * @return campos solicitados
+     * @throws InvalidValueException si algún nombre no corresponde a un campo conocido
+     */
+    public static Set<UserField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<UserField> selected = EnumSet.noneOf(UserField.class);
+        List<String> unknown = new ArrayList<>();
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            UserField field = fromJsonName(trimmed);
+            if (field != null) {
+                selected.add(field);
+            } else if (!trimmed.isEmpty()) {
+                unknown.add(trimmed);
+            }
+        }
+        if (!unknown.isEmpty() || selected.isEmpty()) {
+            throw new InvalidValueException("Campos desconocidos: " + unknown + ". Permitidos: "
+                    + ALL.stream().map(UserField::getJsonName).collect(Collectors.joining(",")));
+        }
+        return selected;
+    }
+
+    /**
+     * @param fields campos solicitados
+     * @return true si corresponden a la representación completa
+     */
+    public static boolean isAll(Set<UserField> fields) {
+        return fields.size() == ALL.size();
+    }
+
+    /**
+     * Construye el filtro Jackson que serializa solo los campos solicitados.
+     *
+     * @param fields campos solicitados
+     * @return proveedor de filtros para {@code MappingJacksonValue} u {@code ObjectWriter}
+     */
+    public static FilterProvider filterProvider(Set<UserField> fields) {
+        SimpleBeanPropertyFilter filter = isAll(fields)
+                ? SimpleBeanPropertyFilter.serializeAll()
+                : SimpleBeanPropertyFilter.filterOutAllExcept(fields.stream().map(UserField::getJsonName).collect(Collectors.toSet()));
+        return new SimpleFilterProvider().addFilter(FILTER_ID, filter);
+    }
+
+    /**
+     * Identificador compacto de la selección, usado para distinguir los ETags de cada variante.
+     *
+     * @param fields campos solicitados
+     * @return máscara hexadecimal de los campos
+     */
+    public static String variant(Set<UserField> fields) {
+        int mask = 0;
+        for (UserField field : fields) {
+            mask |= 1 << field.ordinal();
+        }
+        return Integer.toHexString(mask);
+    }
+
+    private static UserField fromJsonName(String name) {
+        for (UserField field : values()) {
+            if (field.jsonName.equals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+}
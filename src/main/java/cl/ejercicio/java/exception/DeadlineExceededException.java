@@ -0,0 +1,29 @@
+package cl.ejercicio.java.exception;
+
+import java.io.Serializable;
+
+/**
+ * Excepción lanzada cuando se agota el plazo de la solicitud en curso.
+ */
+public class DeadlineExceededException extends RuntimeException implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Construye una nueva excepción de plazo agotado con un mensaje específico.
+     *
+     * @param message el mensaje de error
+     */
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    /**
+     * Construye una nueva excepción de plazo agotado con un mensaje y una causa.
+     *
+     * @param message el mensaje de error
+     * @param cause la causa de la excepción
+     */
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,9 +1,13 @@
 package cl.ejercicio.java.exception;
 
+import cl.ejercicio.java.deadline.RequestDeadline;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -96,19 +100,55 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(List.of(ex.getMessage()));
     }
 
+    // =======================
+    // Conflictos de escritura (409 - CONFLICT)
+    // =======================
+
+    /**
+     * El usuario siguió siendo modificado en paralelo aun después de los reintentos.
+     * El cliente puede reintentar; se registra como WARN.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        log.warn("Conflicto de escritura concurrente: {}", ex.getMessage());
+        return buildErrorResponse(List.of("El usuario fue modificado por otra solicitud. Inténtelo nuevamente."));
+    }
+
+    // =======================
+    // Plazo de la solicitud agotado (504 - GATEWAY TIMEOUT)
+    // =======================
+
+    /**
+     * Se agotó el plazo de la solicitud (encabezado o presupuesto de la ruta) o una consulta
+     * superó su {@code queryTimeout}. El cliente probablemente ya no espera la respuesta, por eso WARN.
+     */
+    @ExceptionHandler({DeadlineExceededException.class, QueryTimeoutException.class})
+    @ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+    public ErrorResponse handleDeadlineExceededException(RuntimeException ex) {
+        log.warn("Plazo de la solicitud agotado: {}", ex.getMessage());
+        return buildErrorResponse(List.of("El plazo de la solicitud se agotó."));
+    }
+
     // =======================
     // Errores internos del servidor (500 - INTERNAL SERVER ERROR)
     // =======================
 
     /**
      * Error inesperado que no fue manejado por otro handler.
-     * Siempre se registra como ERROR para alerta y revisión urgente.
+     * Siempre se registra como ERROR para alerta y revisión urgente, salvo que se deba a que
+     * venció el plazo de la solicitud (por ejemplo, sin conexión disponible a tiempo): entonces es un 504.
      */
     @ExceptionHandler(Exception.class)
-    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
-    public ErrorResponse handleGenericException(Exception ex) {
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
+        if (RequestDeadline.current().map(RequestDeadline::isExpired).orElse(false)) {
+            log.warn("Plazo de la solicitud agotado: {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                    .body(buildErrorResponse(List.of("El plazo de la solicitud se agotó.")));
+        }
         log.error("Error inesperado: {}", ex.getMessage(), ex);
-        return buildErrorResponse(List.of("Ha ocurrido un error inesperado. Inténtelo más tarde."));
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(buildErrorResponse(List.of("Ha ocurrido un error inesperado. Inténtelo más tarde.")));
     }
 
     // =======================
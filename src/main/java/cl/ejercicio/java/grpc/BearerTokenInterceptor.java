@@ -0,0 +1,63 @@
+package cl.ejercicio.java.grpc;
+
+import cl.ejercicio.java.grpc.proto.UserLookupGrpc;
+import cl.ejercicio.java.security.jwt.JwtService;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Exige un JWT válido en el metadato {@code authorization}: con rol de usuario o administrador para
+ * las consultas de usuarios y de administrador para {@code IntrospectToken}, que es solo para gateways.
+ * <p>Solo verifica firma y claims con {@link JwtService}, sin consultar al usuario en la base de datos.</p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BearerTokenInterceptor implements ServerInterceptor {
+
+    static final Metadata.Key<String> AUTHORIZATION = Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final Set<String> USER_ROLES = Set.of("ROLE_USER", "ROLE_ADMIN");
+    private static final Set<String> INTROSPECTION_ROLES = Set.of("ROLE_ADMIN");
+
+    private final JwtService jwtService;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call,
+                                                                 Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        String authorization = headers.get(AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return reject(call, Status.UNAUTHENTICATED.withDescription("No esta autorizado para acceder a este recurso."));
+        }
+
+        List<String> roles;
+        try {
+            roles = jwtService.getRolesFromClaims(jwtService.validateAndParseToken(authorization.substring(BEARER_PREFIX.length())));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Token gRPC rechazado: {}", e.getMessage());
+            return reject(call, Status.UNAUTHENTICATED.withDescription("Token inválido"));
+        }
+        Set<String> allowedRoles = UserLookupGrpc.getIntrospectTokenMethod().getFullMethodName()
+                .equals(call.getMethodDescriptor().getFullMethodName()) ? INTROSPECTION_ROLES : USER_ROLES;
+        if (roles.stream().noneMatch(allowedRoles::contains)) {
+            return reject(call, Status.PERMISSION_DENIED.withDescription("No tiene permisos para realizar esta acción."));
+        }
+        return next.startCall(call, headers);
+    }
+
+    private static <ReqT, RespT> ServerCall.Listener<ReqT> reject(ServerCall<ReqT, RespT> call, Status status) {
+        call.close(status, new Metadata());
+        return new ServerCall.Listener<>() {
+        };
+    }
+}
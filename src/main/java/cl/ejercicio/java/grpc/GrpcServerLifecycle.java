@@ -0,0 +1,93 @@
+package cl.ejercicio.java.grpc;
+
+import cl.ejercicio.java.config.GrpcServerProperties;
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.inprocess.InProcessServerBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Arranca y detiene los servidores gRPC junto con el contexto de Spring.
+ * <p>Las llamadas se ejecutan en hilos virtuales: la mayor parte del trabajo espera a JDBC,
+ * así que no conviene acotarlo con un pool de hilos de plataforma.</p>
+ */
+@Slf4j
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private final GrpcServerProperties properties;
+    private final ServerServiceDefinition service;
+    private final List<Server> servers = new ArrayList<>();
+    private ExecutorService executor;
+
+    public GrpcServerLifecycle(GrpcServerProperties properties, BindableService service, BearerTokenInterceptor interceptor) {
+        this.properties = properties;
+        this.service = ServerInterceptors.intercept(service, interceptor);
+    }
+
+    @Override
+    public synchronized void start() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            servers.add(ServerBuilder.forPort(properties.getPort())
+                    .executor(executor)
+                    .addService(service)
+                    .build()
+                    .start());
+            if (properties.getInProcessName() != null) {
+                servers.add(InProcessServerBuilder.forName(properties.getInProcessName())
+                        .executor(executor)
+                        .addService(service)
+                        .build()
+                        .start());
+            }
+        } catch (IOException e) {
+            stop();
+            throw new UncheckedIOException("No se pudo iniciar el servidor gRPC", e);
+        }
+        log.info("Servidor gRPC escuchando en el puerto {}", getPort());
+    }
+
+    @Override
+    public synchronized void stop() {
+        servers.forEach(Server::shutdown);
+        for (Server server : servers) {
+            try {
+                if (!server.awaitTermination(5, TimeUnit.SECONDS)) {
+                    server.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                server.shutdownNow();
+            }
+        }
+        servers.clear();
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return !servers.isEmpty();
+    }
+
+    /**
+     * @return puerto TCP efectivo (útil con {@code grpc.server.port=0}), o -1 si no está iniciado
+     */
+    public synchronized int getPort() {
+        return servers.isEmpty() ? -1 : servers.get(0).getPort();
+    }
+}
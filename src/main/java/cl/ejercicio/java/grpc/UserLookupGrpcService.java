@@ -0,0 +1,130 @@
+package cl.ejercicio.java.grpc;
+
+import cl.ejercicio.java.dto.UserField;
+import cl.ejercicio.java.exception.InvalidValueException;
+import cl.ejercicio.java.exception.UserException;
+import cl.ejercicio.java.grpc.proto.BatchGetUsersRequest;
+import cl.ejercicio.java.grpc.proto.GetUserRequest;
+import cl.ejercicio.java.grpc.proto.IntrospectTokenRequest;
+import cl.ejercicio.java.grpc.proto.TokenIntrospection;
+import cl.ejercicio.java.grpc.proto.User;
+import cl.ejercicio.java.grpc.proto.UserLookupGrpc;
+import cl.ejercicio.java.grpc.proto.UserResult;
+import cl.ejercicio.java.request.UserBatchRequestDto;
+import cl.ejercicio.java.response.UserBatchResponseDto;
+import cl.ejercicio.java.response.UserResponseDto;
+import cl.ejercicio.java.security.jwt.TokenIntrospectionService;
+import cl.ejercicio.java.service.UserService;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Implementación gRPC de la consulta de usuarios y la introspección de tokens.
+ * <p>Reutiliza {@link UserService} (validaciones, caché de respuestas y consultas por lotes)
+ * y {@link TokenIntrospectionService}; no pasa por la cadena de filtros servlet.</p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class UserLookupGrpcService extends UserLookupGrpc.UserLookupImplBase {
+
+    private final UserService userService;
+    private final TokenIntrospectionService tokenIntrospectionService;
+
+    @Override
+    public void getUser(GetUserRequest request, StreamObserver<User> responseObserver) {
+        try {
+            Set<UserField> fields = UserField.parse(String.join(",", request.getFieldsList()));
+            UserResponseDto user = userService.getUsers(List.of(request.getEmail()), null, fields)
+                    .getUsers().get(request.getEmail());
+            if (user == null) {
+                throw new UserException("Usuario no encontrado con email: " + request.getEmail());
+            }
+            responseObserver.onNext(UserProtoMapper.mapToUser(user, fields));
+            responseObserver.onCompleted();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatus(e));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Las claves se resuelven en bloques de {@value UserBatchRequestDto#MAX_KEYS} con
+     * {@link UserService#getUsers}; cada bloque se emite apenas se resuelve, en el orden solicitado.</p>
+     */
+    @Override
+    public void batchGetUsers(BatchGetUsersRequest request, StreamObserver<UserResult> responseObserver) {
+        ServerCallStreamObserver<UserResult> observer = (ServerCallStreamObserver<UserResult>) responseObserver;
+        try {
+            Set<UserField> fields = UserField.parse(String.join(",", request.getFieldsList()));
+            List<String> emails = List.copyOf(new LinkedHashSet<>(request.getEmailsList()));
+            List<UUID> ids = new LinkedHashSet<>(request.getIdsList()).stream().map(UserLookupGrpcService::parseId).toList();
+            if (emails.isEmpty() && ids.isEmpty()) {
+                throw new InvalidValueException("Debe indicar al menos un email o id");
+            }
+
+            int total = emails.size() + ids.size();
+            for (int from = 0; from < total && !observer.isCancelled(); from += UserBatchRequestDto.MAX_KEYS) {
+                int to = Math.min(from + UserBatchRequestDto.MAX_KEYS, total);
+                List<String> chunkEmails = emails.subList(Math.min(from, emails.size()), Math.min(to, emails.size()));
+                List<UUID> chunkIds = ids.subList(Math.max(0, from - emails.size()), Math.max(0, to - emails.size()));
+
+                UserBatchResponseDto chunk = userService.getUsers(chunkEmails, chunkIds, fields);
+                List<String> keys = new ArrayList<>(chunkEmails);
+                chunkIds.forEach(id -> keys.add(id.toString()));
+                for (String key : keys) {
+                    UserResult.Builder result = UserResult.newBuilder().setKey(key);
+                    UserResponseDto user = chunk.getUsers().get(key);
+                    if (user != null) {
+                        result.setUser(UserProtoMapper.mapToUser(user, fields));
+                    }
+                    observer.onNext(result.build());
+                }
+            }
+            observer.onCompleted();
+        } catch (RuntimeException e) {
+            observer.onError(toStatus(e));
+        }
+    }
+
+    @Override
+    public void introspectToken(IntrospectTokenRequest request, StreamObserver<TokenIntrospection> responseObserver) {
+        try {
+            responseObserver.onNext(UserProtoMapper.mapToTokenIntrospection(
+                    tokenIntrospectionService.introspect(request.getToken())));
+            responseObserver.onCompleted();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatus(e));
+        }
+    }
+
+    private static UUID parseId(String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidValueException("Id inválido: " + id);
+        }
+    }
+
+    /**
+     * Traduce las excepciones de la aplicación a estados gRPC, como {@code GlobalExceptionHandler} hace con HTTP.
+     */
+    private static RuntimeException toStatus(RuntimeException e) {
+        if (e instanceof InvalidValueException) {
+            return Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException();
+        }
+        if (e instanceof UserException) {
+            return Status.NOT_FOUND.withDescription(e.getMessage()).asRuntimeException();
+        }
+        log.error("Error inesperado en gRPC: {}", e.getMessage(), e);
+        return Status.INTERNAL.withDescription("Ha ocurrido un error inesperado. Inténtelo más tarde.").asRuntimeException();
+    }
+}
@@ -0,0 +1,112 @@
+package cl.ejercicio.java.grpc;
+
+import cl.ejercicio.java.dto.PhoneDto;
+import cl.ejercicio.java.dto.UserField;
+import cl.ejercicio.java.grpc.proto.Phone;
+import cl.ejercicio.java.grpc.proto.TokenIntrospection;
+import cl.ejercicio.java.grpc.proto.User;
+import cl.ejercicio.java.response.UserResponseDto;
+import cl.ejercicio.java.security.auth.dto.TokenIntrospectionDto;
+import com.google.protobuf.Timestamp;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Set;
+
+/**
+ * Clase utilitaria para convertir DTOs de la aplicación a mensajes protobuf.
+ */
+public final class UserProtoMapper {
+
+    // Constructor privado para evitar instanciación
+    private UserProtoMapper() {
+        throw new UnsupportedOperationException("Esta clase no puede ser instanciada");
+    }
+
+    /**
+     * Convierte un {@link UserResponseDto} a {@link User}, incluyendo solo los campos solicitados.
+     *
+     * @param dto usuario a convertir
+     * @param fields campos solicitados
+     * @return mensaje protobuf
+     */
+    public static User mapToUser(UserResponseDto dto, Set<UserField> fields) {
+        User.Builder user = User.newBuilder();
+        if (fields.contains(UserField.ID) && dto.getId() != null) {
+            user.setId(dto.getId().toString());
+        }
+        if (fields.contains(UserField.NAME) && dto.getName() != null) {
+            user.setName(dto.getName());
+        }
+        if (fields.contains(UserField.EMAIL) && dto.getEmail() != null) {
+            user.setEmail(dto.getEmail());
+        }
+        if (fields.contains(UserField.PHONES) && dto.getPhones() != null) {
+            dto.getPhones().forEach(phone -> user.addPhones(mapToPhone(phone)));
+        }
+        if (fields.contains(UserField.ROLES) && dto.getRoles() != null) {
+            user.addAllRoles(dto.getRoles());
+        }
+        if (fields.contains(UserField.CREATED) && dto.getCreated() != null) {
+            user.setCreated(toTimestamp(dto.getCreated()));
+        }
+        if (fields.contains(UserField.MODIFIED) && dto.getModified() != null) {
+            user.setModified(toTimestamp(dto.getModified()));
+        }
+        if (fields.contains(UserField.LAST_LOGIN) && dto.getLastLogin() != null) {
+            user.setLastLogin(toTimestamp(dto.getLastLogin()));
+        }
+        if (fields.contains(UserField.ACTIVE)) {
+            user.setActive(dto.isActive());
+        }
+        return user.build();
+    }
+
+    /**
+     * Convierte el resultado de una introspección a {@link TokenIntrospection}.
+     *
+     * @param dto resultado de la verificación
+     * @return mensaje protobuf
+     */
+    public static TokenIntrospection mapToTokenIntrospection(TokenIntrospectionDto dto) {
+        TokenIntrospection.Builder introspection = TokenIntrospection.newBuilder()
+                .setActive(dto.isActive())
+                .setRevoked(dto.isRevoked());
+        if (dto.getSubject() != null) {
+            introspection.setSubject(dto.getSubject());
+        }
+        if (dto.getRoles() != null) {
+            introspection.addAllRoles(dto.getRoles());
+        }
+        if (dto.getExpiresAt() != null) {
+            introspection.setExpiresAt(toTimestamp(dto.getExpiresAt()));
+        }
+        if (dto.getError() != null) {
+            introspection.setError(dto.getError());
+        }
+        return introspection.build();
+    }
+
+    private static Phone mapToPhone(PhoneDto dto) {
+        Phone.Builder phone = Phone.newBuilder();
+        if (dto.getNumber() != null) {
+            phone.setNumber(dto.getNumber());
+        }
+        if (dto.getCityCode() != null) {
+            phone.setCityCode(dto.getCityCode());
+        }
+        if (dto.getCountryCode() != null) {
+            phone.setCountryCode(dto.getCountryCode());
+        }
+        return phone.build();
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        Instant instant = dateTime.atZone(ZoneId.systemDefault()).toInstant();
+        return Timestamp.newBuilder()
+                .setSeconds(instant.getEpochSecond())
+                .setNanos(instant.getNano())
+                .build();
+    }
+}
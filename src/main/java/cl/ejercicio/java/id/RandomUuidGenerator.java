@@ -0,0 +1,16 @@
+package cl.ejercicio.java.id;
+
+import java.util.UUID;
+
+/**
+ * Generador de UUID versión 4 (completamente aleatorios).
+ * <p>Corresponde al comportamiento original de {@link UUID#randomUUID()}.</p>
+ */
+public class RandomUuidGenerator implements UserIdGenerator {
+
+    /** {@inheritDoc} */
+    @Override
+    public UUID nextId() {
+        return UUID.randomUUID();
+    }
+}
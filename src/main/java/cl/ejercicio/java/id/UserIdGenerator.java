@@ -0,0 +1,18 @@
+package cl.ejercicio.java.id;
+
+import java.util.UUID;
+
+/**
+ * Estrategia de generación de identificadores para nuevos usuarios.
+ * <p>Permite cambiar el tipo de UUID usado como clave primaria de {@code users}
+ * sin modificar los servicios que crean usuarios.</p>
+ */
+public interface UserIdGenerator {
+
+    /**
+     * Genera un nuevo identificador de usuario.
+     *
+     * @return un UUID único
+     */
+    UUID nextId();
+}
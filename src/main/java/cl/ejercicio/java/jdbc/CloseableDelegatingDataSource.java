@@ -0,0 +1,55 @@
+package cl.ejercicio.java.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+
+/**
+ * Base de los envoltorios del pool ({@code DataSourceConfig}): delega en el {@link DataSource} envuelto
+ * y propaga {@code close()} hasta el pool, para que Spring lo cierre al detener el contexto.
+ * Incluye además los utilitarios para envolver conexiones y sentencias con proxies dinámicos.
+ */
+public abstract class CloseableDelegatingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    protected CloseableDelegatingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (obtainTargetDataSource() instanceof AutoCloseable target) {
+            try {
+                target.close();
+            } catch (SQLException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new SQLException("No se pudo cerrar el DataSource", e);
+            }
+        }
+    }
+
+    /**
+     * Invoca el método sobre el objeto real, propagando la excepción original en vez de
+     * {@link InvocationTargetException}.
+     */
+    protected static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
@@ -0,0 +1,109 @@
+package cl.ejercicio.java.jdbc;
+
+import javax.sql.DataSource;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * {@link DataSource} que registra cada sentencia ejecutada en el {@link StatementStats} en curso:
+ * tiempo de {@code execute*}, filas modificadas, filas leídas de sus {@code ResultSet} y forma de la sentencia.
+ * <p>Las conexiones obtenidas fuera de un ámbito (arranque, tareas internas) se entregan sin envolver.</p>
+ */
+public class StatementCountingDataSource extends CloseableDelegatingDataSource {
+
+    public StatementCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = super.getConnection();
+        return StatementStats.isActive() ? counting(connection) : connection;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Connection connection = super.getConnection(username, password);
+        return StatementStats.isActive() ? counting(connection) : connection;
+    }
+
+    private static Connection counting(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> counting(Statement.class, (Statement) result, null);
+                case "prepareStatement" -> counting(PreparedStatement.class, (PreparedStatement) result, (String) args[0]);
+                case "prepareCall" -> counting(CallableStatement.class, (CallableStatement) result, (String) args[0]);
+                default -> result;
+            };
+        });
+    }
+
+    /**
+     * @param preparedSql SQL de una sentencia preparada; null si se indica en cada {@code execute*}
+     */
+    private static <S extends Statement> S counting(Class<S> type, S statement, String preparedSql) {
+        return proxy(type, (proxy, method, args) -> {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                Object result = invoke(statement, method, args);
+                return name.equals("getResultSet") ? counting((ResultSet) result) : result;
+            }
+            long start = System.nanoTime();
+            Object result = invoke(statement, method, args);
+            long elapsed = System.nanoTime() - start;
+
+            String sql = preparedSql != null || args == null || args.length == 0 ? preparedSql : (String) args[0];
+            StatementStats.current().ifPresent(stats ->
+                    stats.recordExecution(sql != null ? sql : "?", elapsed, affectedRows(result)));
+            return result instanceof ResultSet resultSet ? counting(resultSet) : result;
+        });
+    }
+
+    private static ResultSet counting(ResultSet resultSet) {
+        if (resultSet == null) {
+            return null;
+        }
+        StatementStats stats = StatementStats.current().orElse(null);
+        if (stats == null) {
+            return resultSet;
+        }
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            Object result = invoke(resultSet, method, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                stats.recordRows(1);
+            }
+            return result;
+        });
+    }
+
+    private static long affectedRows(Object result) {
+        return switch (result) {
+            case Integer count -> count;
+            case Long count -> count;
+            case int[] counts -> sum(counts);
+            case long[] counts -> sum(counts);
+            case null, default -> 0;
+        };
+    }
+
+    private static long sum(int[] counts) {
+        long sum = 0;
+        for (int count : counts) {
+            sum += Math.max(count, 0);
+        }
+        return sum;
+    }
+
+    private static long sum(long[] counts) {
+        long sum = 0;
+        for (long count : counts) {
+            sum += Math.max(count, 0);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,142 @@
+package cl.ejercicio.java.jdbc;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Sentencias JDBC ejecutadas dentro de un ámbito (una solicitud HTTP o una llamada medida con
+ * {@code QueryCount} en las pruebas), enlazadas en un {@link ScopedValue}.
+ * <p>Las registra {@code StatementCountingDataSource}: cantidad, tiempo de ejecución, filas leídas o
+ * modificadas y cuántas veces se ejecutó cada forma de sentencia (el SQL sin valores literales). Un ámbito
+ * anidado también suma en el que lo contiene, y las subtareas de un {@code StructuredTaskScope} heredan el
+ * enlace.</p>
+ */
+public final class StatementStats {
+
+    private static final ScopedValue<StatementStats> CURRENT = ScopedValue.newInstance();
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern LITERALS = Pattern.compile("'(?:[^']|'')*'|\\b\\d+(?:\\.\\d+)?\\b");
+
+    private final StatementStats parent;
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final Map<String, LongAdder> executionsBySql = new ConcurrentHashMap<>();
+
+    private StatementStats(StatementStats parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * @return un ámbito nuevo, anidado en el actual si lo hay
+     */
+    public static StatementStats open() {
+        return new StatementStats(CURRENT.isBound() ? CURRENT.get() : null);
+    }
+
+    /**
+     * Ejecuta {@code operation} con este ámbito como ámbito actual.
+     *
+     * @param operation operación a ejecutar
+     * @param <T>       tipo del resultado
+     * @return el resultado de {@code operation}
+     * @throws Exception la excepción lanzada por {@code operation}
+     */
+    public <T> T call(Callable<T> operation) throws Exception {
+        return ScopedValue.where(CURRENT, this).call(operation);
+    }
+
+    /**
+     * @return el ámbito en curso, si lo hay
+     */
+    public static Optional<StatementStats> current() {
+        return CURRENT.isBound() ? Optional.of(CURRENT.get()) : Optional.empty();
+    }
+
+    /**
+     * @return true si hay un ámbito en curso
+     */
+    public static boolean isActive() {
+        return CURRENT.isBound();
+    }
+
+    void recordExecution(String sql, long elapsedNanos, long affectedRows) {
+        for (StatementStats stats = this; stats != null; stats = stats.parent) {
+            stats.statements.increment();
+            stats.nanos.add(elapsedNanos);
+            if (affectedRows > 0) {
+                stats.rows.add(affectedRows);
+            }
+            stats.executionsBySql.computeIfAbsent(sql, key -> new LongAdder()).increment();
+        }
+    }
+
+    void recordRows(long readRows) {
+        for (StatementStats stats = this; stats != null; stats = stats.parent) {
+            stats.rows.add(readRows);
+        }
+    }
+
+    /**
+     * @return sentencias ejecutadas (un lote cuenta como una)
+     */
+    public long statements() {
+        return statements.sum();
+    }
+
+    /**
+     * @return nanosegundos dentro de {@code execute*} (sin leer los resultados)
+     */
+    public long nanos() {
+        return nanos.sum();
+    }
+
+    /**
+     * @return filas leídas de los {@code ResultSet} más filas modificadas
+     */
+    public long rows() {
+        return rows.sum();
+    }
+
+    /**
+     * Formas de sentencia ejecutadas al menos {@code threshold} veces, de la más repetida a la menos: el
+     * síntoma de un N+1 (una consulta por elemento de una colección) o de inserciones sin lote.
+     *
+     * @param threshold ejecuciones mínimas
+     * @return ejecuciones por forma de sentencia
+     */
+    public List<RepeatedStatement> repeated(int threshold) {
+        Map<String, Long> byShape = new LinkedHashMap<>();
+        executionsBySql.forEach((sql, executions) -> byShape.merge(shape(sql), executions.sum(), Long::sum));
+        return byShape.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .map(entry -> new RepeatedStatement(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(RepeatedStatement::executions).reversed())
+                .toList();
+    }
+
+    /**
+     * @param sql sentencia tal como se preparó o ejecutó
+     * @return la sentencia en una línea y sin valores literales
+     */
+    static String shape(String sql) {
+        String oneLine = WHITESPACE.matcher(sql).replaceAll(" ").trim();
+        return LITERALS.matcher(oneLine).replaceAll("?");
+    }
+
+    /**
+     * Una forma de sentencia repetida.
+     *
+     * @param sql        sentencia en una línea, con {@code ?} en lugar de los valores
+     * @param executions veces que se ejecutó
+     */
+    public record RepeatedStatement(String sql, long executions) {
+    }
+}
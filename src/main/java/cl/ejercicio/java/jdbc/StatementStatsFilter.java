@@ -0,0 +1,89 @@
+package cl.ejercicio.java.jdbc;
+
+import cl.ejercicio.java.metrics.OperationMetrics;
+import cl.ejercicio.java.metrics.RequestEndpoint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enlaza un {@link StatementStats} por solicitud y, al terminar, publica por endpoint:
+ * <ul>
+ *     <li>{@code jdbc.request.statements}: sentencias por solicitud;</li>
+ *     <li>{@code jdbc.request.rows}: filas leídas o modificadas por solicitud;</li>
+ *     <li>{@code jdbc.request.time}: tiempo de ejecución de las sentencias por solicitud;</li>
+ *     <li>{@code jdbc.request.repeated}: solicitudes con alguna sentencia repetida {@code repeatedThreshold}
+ *     veces o más (posible N+1), con un {@code WARN} que indica la sentencia.</li>
+ * </ul>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class StatementStatsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry registry;
+    private final int repeatedThreshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        StatementStats stats = StatementStats.open();
+        try {
+            stats.call(() -> {
+                filterChain.doFilter(request, response);
+                return null;
+            });
+        } catch (IOException | ServletException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServletException(e);
+        } finally {
+            if (stats.statements() > 0) {
+                publish(RequestEndpoint.of(request).pattern().orElse(OperationMetrics.UNKNOWN_ENDPOINT), stats);
+            }
+        }
+    }
+
+    private void publish(String endpoint, StatementStats stats) {
+        DistributionSummary.builder("jdbc.request.statements")
+                .description("Sentencias JDBC por solicitud")
+                .tag("endpoint", endpoint)
+                .register(registry)
+                .record(stats.statements());
+        DistributionSummary.builder("jdbc.request.rows")
+                .description("Filas leídas o modificadas por solicitud")
+                .baseUnit("rows")
+                .tag("endpoint", endpoint)
+                .register(registry)
+                .record(stats.rows());
+        Timer.builder("jdbc.request.time")
+                .description("Tiempo de ejecución de las sentencias JDBC por solicitud")
+                .tag("endpoint", endpoint)
+                .register(registry)
+                .record(stats.nanos(), TimeUnit.NANOSECONDS);
+
+        List<StatementStats.RepeatedStatement> repeated = stats.repeated(repeatedThreshold);
+        if (!repeated.isEmpty()) {
+            Counter.builder("jdbc.request.repeated")
+                    .description("Solicitudes con una sentencia JDBC repetida (posible N+1)")
+                    .tag("endpoint", endpoint)
+                    .register(registry)
+                    .increment();
+            StatementStats.RepeatedStatement top = repeated.getFirst();
+            log.warn("Posible N+1 en {}: {} sentencias, la más repetida {} veces: {}",
+                    endpoint, stats.statements(), top.executions(), top.sql());
+        }
+    }
+}
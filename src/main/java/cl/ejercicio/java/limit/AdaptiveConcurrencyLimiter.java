@@ -0,0 +1,156 @@
+package cl.ejercicio.java.limit;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limitador de concurrencia adaptativo basado en gradiente (estilo Gradient2).
+ * <p>Compara la latencia reciente de cada solicitud con una media de largo plazo: mientras la
+ * latencia no sube, el límite crece en {@code sqrt(límite)} por muestra; cuando sube (se forma cola en
+ * Tomcat, Hikari o la CPU), el límite se reduce en proporción al gradiente {@code largo/corto}.
+ * Las solicitudes por encima del límite se rechazan de inmediato en vez de esperar.</p>
+ * <p>El límite solo crece si al menos la mitad está en uso, para no inflarlo con poco tráfico.</p>
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    /** Peso de cada muestra en la media de largo plazo (~600 muestras). */
+    private static final double LONG_WINDOW_WEIGHT = 2.0 / (600 + 1);
+    /** Peso de cada muestra en la media de corto plazo (~10 muestras). */
+    private static final double SHORT_WINDOW_WEIGHT = 2.0 / (10 + 1);
+    /** Suavizado de los cambios del límite. */
+    private static final double SMOOTHING = 0.2;
+    /** Tolerancia sobre la latencia de largo plazo antes de considerar que hay cola. */
+    private static final double TOLERANCE = 1.5;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private volatile double limit;
+    private double longRttNanos;
+    private double shortRttNanos;
+
+    /**
+     * @param name         nombre de la partición
+     * @param initialLimit límite inicial
+     * @param minLimit     límite mínimo
+     * @param maxLimit     límite máximo
+     */
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    /**
+     * Intenta ocupar un cupo.
+     *
+     * @return el cupo, o vacío si la partición está en su límite
+     */
+    public Optional<Permit> tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.incrementAndGet();
+                return Optional.empty();
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return Optional.of(new Permit(System.nanoTime(), current + 1));
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtStart, boolean dropped) {
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+            shortRttNanos = rttNanos;
+            return;
+        }
+        shortRttNanos += (rttNanos - shortRttNanos) * SHORT_WINDOW_WEIGHT;
+        longRttNanos += (rttNanos - longRttNanos) * LONG_WINDOW_WEIGHT;
+
+        // Si la latencia base bajó (o se recuperó tras una sobrecarga), la media larga la sigue más rápido
+        if (longRttNanos / shortRttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        double current = limit;
+        if (!dropped && inFlightAtStart < current / 2) {
+            return;
+        }
+        double gradient = dropped ? 0.5
+                : Math.clamp(TOLERANCE * longRttNanos / shortRttNanos, 0.5, 1.0);
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - SMOOTHING) + target * SMOOTHING;
+        limit = Math.clamp(next, minLimit, maxLimit);
+    }
+
+    /**
+     * @return nombre de la partición
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return límite actual de solicitudes concurrentes
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * @return solicitudes en curso
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return total de solicitudes rechazadas
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    /**
+     * Cupo ocupado; debe liberarse exactamente una vez.
+     */
+    public final class Permit {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * Libera el cupo registrando la latencia observada.
+         */
+        public void release() {
+            inFlight.decrementAndGet();
+            onSample(System.nanoTime() - startNanos, inFlightAtStart, false);
+        }
+
+        /**
+         * Libera el cupo indicando que la solicitud falló por sobrecarga (timeout, pool agotado).
+         */
+        public void releaseDropped() {
+            inFlight.decrementAndGet();
+            onSample(System.nanoTime() - startNanos, inFlightAtStart, true);
+        }
+
+        /**
+         * Libera el cupo sin usar la muestra (errores de cliente, respuestas sin trabajo útil).
+         */
+        public void releaseIgnored() {
+            inFlight.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package cl.ejercicio.java.limit;
+
+import cl.ejercicio.java.config.ContentFormats;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Rechaza con 503 las solicitudes que exceden el límite adaptativo de su partición, antes de
+ * autenticar o tocar la base de datos. Las respuestas 4xx no alimentan el limitador (son baratas y
+ * sesgarían la latencia); los 503/504 y las excepciones cuentan como sobrecarga.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    /** Segundos sugeridos al cliente antes de reintentar. */
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final ConcurrencyLimiters limiters;
+    private final ContentFormats contentFormats;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter limiter = limiters.partitionFor(request);
+        if (limiter == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Optional<AdaptiveConcurrencyLimiter.Permit> permit = limiter.tryAcquire();
+        if (permit.isEmpty()) {
+            log.debug("Solicitud rechazada en la partición {} (límite {})", limiter.getName(), limiter.getLimit());
+            reject(request, response);
+            return;
+        }
+
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            int status = response.getStatus();
+            if (failed || status == HttpServletResponse.SC_SERVICE_UNAVAILABLE
+                    || status == HttpServletResponse.SC_GATEWAY_TIMEOUT) {
+                permit.get().releaseDropped();
+            } else if (status >= 400 && status < 500) {
+                permit.get().releaseIgnored();
+            } else {
+                permit.get().release();
+            }
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        contentFormats.writeError(request, response, HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+                "Servicio sobrecargado. Inténtelo nuevamente en unos instantes.");
+    }
+}
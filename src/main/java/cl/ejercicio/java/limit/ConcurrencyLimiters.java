@@ -0,0 +1,82 @@
+package cl.ejercicio.java.limit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+
+import java.util.List;
+
+/**
+ * Particiones del limitador de concurrencia: autenticación (BCrypt), lecturas y escrituras de usuarios.
+ * Cada una adapta su límite por separado, de modo que una ráfaga de logins no consume el cupo de las
+ * lecturas. Expone por partición:
+ * <ul>
+ *     <li>{@code http.server.concurrency.limit}: límite actual;</li>
+ *     <li>{@code http.server.concurrency.in.flight}: solicitudes en curso;</li>
+ *     <li>{@code http.server.concurrency.rejected}: solicitudes rechazadas con 503.</li>
+ * </ul>
+ */
+public class ConcurrencyLimiters implements MeterBinder {
+
+    private static final String AUTH_PREFIX = "/api/v1/auth";
+    private static final String USERS_PREFIX = "/api/v1/users";
+    private static final String BATCH_PATH = USERS_PREFIX + "/batch";
+
+    private final AdaptiveConcurrencyLimiter auth;
+    private final AdaptiveConcurrencyLimiter read;
+    private final AdaptiveConcurrencyLimiter write;
+
+    public ConcurrencyLimiters(AdaptiveConcurrencyLimiter auth,
+                               AdaptiveConcurrencyLimiter read,
+                               AdaptiveConcurrencyLimiter write) {
+        this.auth = auth;
+        this.read = read;
+        this.write = write;
+    }
+
+    /**
+     * Determina la partición de una solicitud.
+     *
+     * @param request solicitud HTTP
+     * @return la partición, o null si la ruta no está limitada (Swagger, consola H2, etc.)
+     */
+    public AdaptiveConcurrencyLimiter partitionFor(HttpServletRequest request) {
+        String path = request.getServletPath();
+        if (path.startsWith(AUTH_PREFIX)) {
+            return auth;
+        }
+        if (path.startsWith(USERS_PREFIX)) {
+            boolean isRead = HttpMethod.GET.matches(request.getMethod()) || path.equals(BATCH_PATH);
+            return isRead ? read : write;
+        }
+        return null;
+    }
+
+    /**
+     * @return todas las particiones
+     */
+    public List<AdaptiveConcurrencyLimiter> partitions() {
+        return List.of(auth, read, write);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (AdaptiveConcurrencyLimiter limiter : partitions()) {
+            Gauge.builder("http.server.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("Límite adaptativo de solicitudes concurrentes")
+                    .tag("partition", limiter.getName())
+                    .register(registry);
+            Gauge.builder("http.server.concurrency.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .description("Solicitudes en curso")
+                    .tag("partition", limiter.getName())
+                    .register(registry);
+            FunctionCounter.builder("http.server.concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::getRejected)
+                    .description("Solicitudes rechazadas por exceder el límite")
+                    .tag("partition", limiter.getName())
+                    .register(registry);
+        }
+    }
+}
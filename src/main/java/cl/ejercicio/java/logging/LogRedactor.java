@@ -0,0 +1,73 @@
+package cl.ejercicio.java.logging;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Oculta tokens y contraseñas en los mensajes de log antes de escribirlos.
+ * <p>Cubre JWT compactos ({@code eyJ...}), encabezados {@code Bearer} y pares
+ * {@code password=...}/{@code "password":"..."}. Los mensajes sin ninguno de esos marcadores
+ * se devuelven sin evaluar expresiones regulares.</p>
+ */
+public final class LogRedactor {
+
+    static final String MASK = "***";
+
+    private static final Pattern SENSITIVE = Pattern.compile(
+            "(?i)(?<bearer>bearer\\s+)\\S+"
+                    + "|(?<jwt>eyJ)[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]*"
+                    + "|(?<field>\"?(?:password|passwd|secret|token)\"?\\s*[:=]\\s*\"?)[^\"\\s,}&]+");
+
+    private static final String[] MARKERS = {"bearer", "password", "passwd", "secret", "token"};
+
+    private LogRedactor() {
+    }
+
+    /**
+     * @param message mensaje ya formateado
+     * @return el mismo mensaje con los valores sensibles reemplazados por {@value #MASK}
+     */
+    public static String redact(String message) {
+        if (message == null || !mightContainSecret(message)) {
+            return message;
+        }
+        Matcher matcher = SENSITIVE.matcher(message);
+        StringBuilder redacted = null;
+        while (matcher.find()) {
+            if (redacted == null) {
+                redacted = new StringBuilder(message.length());
+            }
+            String prefix = matcher.group("bearer") != null ? matcher.group("bearer")
+                    : matcher.group("jwt") != null ? matcher.group("jwt")
+                    : matcher.group("field");
+            matcher.appendReplacement(redacted, Matcher.quoteReplacement(prefix + MASK));
+        }
+        if (redacted == null) {
+            return message;
+        }
+        matcher.appendTail(redacted);
+        return redacted.toString();
+    }
+
+    private static boolean mightContainSecret(String message) {
+        if (message.contains("eyJ")) {
+            return true;
+        }
+        for (String marker : MARKERS) {
+            if (containsIgnoreCase(message, marker)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsIgnoreCase(String text, String lowerCaseNeedle) {
+        int last = text.length() - lowerCaseNeedle.length();
+        for (int i = 0; i <= last; i++) {
+            if (text.regionMatches(true, i, lowerCaseNeedle, 0, lowerCaseNeedle.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
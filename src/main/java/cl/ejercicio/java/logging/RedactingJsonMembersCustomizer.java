@@ -0,0 +1,16 @@
+package cl.ejercicio.java.logging;
+
+import org.springframework.boot.json.JsonWriter;
+import org.springframework.boot.logging.structured.StructuredLoggingJsonMembersCustomizer;
+
+/**
+ * Aplica {@link LogRedactor} a todos los valores de texto de los logs estructurados
+ * (mensaje, MDC y pares clave/valor). Se activa con {@code logging.structured.json.customizer}.
+ */
+public class RedactingJsonMembersCustomizer implements StructuredLoggingJsonMembersCustomizer<Object> {
+
+    @Override
+    public void customize(JsonWriter.Members<Object> members) {
+        members.applyingValueProcessor(JsonWriter.ValueProcessor.of(String.class, LogRedactor::redact));
+    }
+}
@@ -0,0 +1,16 @@
+package cl.ejercicio.java.logging;
+
+import ch.qos.logback.classic.pattern.MessageConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * Reemplaza {@code %m}/{@code %msg}/{@code %message} en los patrones de logback
+ * por el mensaje formateado pasado por {@link LogRedactor}.
+ */
+public class RedactingMessageConverter extends MessageConverter {
+
+    @Override
+    public String convert(ILoggingEvent event) {
+        return LogRedactor.redact(super.convert(event));
+    }
+}
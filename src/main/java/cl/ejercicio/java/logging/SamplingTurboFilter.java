@@ -0,0 +1,101 @@
+package cl.ejercicio.java.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limita los logs repetitivos del camino caliente: por cada plantilla de mensaje de los loggers
+ * configurados deja pasar como máximo {@code maxPerSecond} eventos por segundo y descarta el resto
+ * antes de formatearlos. Los eventos {@code ERROR} siempre pasan.
+ * <p>Se declara en {@code logback-spring.xml}; la plantilla es el texto con {@code {}} sin
+ * argumentos, por lo que cada línea de código cuenta como una sola fuente.</p>
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private List<String> loggers = List.of();
+    private int maxPerSecond = 10;
+    private int maxTemplates = 1024;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private final LongAdder suppressed = new LongAdder();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format,
+                              Object[] params, Throwable t) {
+        if (format == null || level == null || level.isGreaterOrEqual(Level.ERROR)
+                || !isSampled(logger.getName()) || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Window window = windows.get(format);
+        if (window == null) {
+            if (windows.size() >= maxTemplates) {
+                return FilterReply.NEUTRAL;
+            }
+            window = windows.computeIfAbsent(format, key -> new Window());
+        }
+        if (window.tryAcquire(System.nanoTime() / 1_000_000_000L, maxPerSecond)) {
+            return FilterReply.NEUTRAL;
+        }
+        suppressed.increment();
+        return FilterReply.DENY;
+    }
+
+    private boolean isSampled(String loggerName) {
+        for (String prefix : loggers) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return eventos descartados desde el arranque
+     */
+    public long getSuppressed() {
+        return suppressed.sum();
+    }
+
+    /**
+     * @param loggers prefijos de logger separados por coma
+     */
+    public void setLoggers(String loggers) {
+        this.loggers = Arrays.stream(loggers.split(","))
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .toList();
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    public void setMaxTemplates(int maxTemplates) {
+        this.maxTemplates = maxTemplates;
+    }
+
+    /** Ventana de un segundo por plantilla; una carrera al cambiar de segundo solo admite algún evento extra. */
+    private static final class Window {
+
+        private volatile long second;
+        private final AtomicInteger count = new AtomicInteger();
+
+        boolean tryAcquire(long now, int limit) {
+            if (now != second) {
+                second = now;
+                count.set(0);
+            }
+            return count.incrementAndGet() <= limit;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package cl.ejercicio.java.mapper;
 import cl.ejercicio.java.dto.PhoneDto;
 import cl.ejercicio.java.entity.Phone;
 import cl.ejercicio.java.entity.User;
+import cl.ejercicio.java.repository.PhoneRow;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -50,6 +51,20 @@ public final class PhoneMapper {
                 .toList();
     }
 
+    /**
+     * Convierte una proyección {@link PhoneRow} a un objeto {@link PhoneDto}.
+     *
+     * @param row la proyección a convertir
+     * @return el objeto {@link PhoneDto}
+     */
+    public static PhoneDto mapPhoneRowToPhoneDto(PhoneRow row) {
+        return PhoneDto.builder()
+                .number(row.getNumber())
+                .cityCode(row.getCityCode())
+                .countryCode(row.getCountryCode())
+                .build();
+    }
+
     /**
      * Convierte un objeto {@link PhoneDto} a una entidad {@link Phone}.
      *
@@ -1,20 +1,25 @@
 package cl.ejercicio.java.mapper;
 
+import cl.ejercicio.java.dto.PhoneDto;
 import cl.ejercicio.java.entity.Role;
 import cl.ejercicio.java.entity.User;
+import cl.ejercicio.java.id.UserIdGenerator;
+import cl.ejercicio.java.repository.UserRow;
 import cl.ejercicio.java.request.UserCreateRequestDto;
 import cl.ejercicio.java.response.UserResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Set;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class UserMapper {
 
+    private final UserIdGenerator userIdGenerator;
+
     /**
      * Convierte un UserRequestDto en una entidad User.
      * @param dto objeto de entrada
@@ -23,7 +28,7 @@ public class UserMapper {
     public User mapToUser(UserCreateRequestDto dto, Set<Role> roles) {
         // Crear el usuario sin teléfonos inicialmente
         User user = User.builder()
-                .id(UUID.randomUUID())
+                .id(userIdGenerator.nextId())
                 .name(dto.getName())
                 .email(dto.getEmail())
                 .password(dto.getPassword())
@@ -57,4 +62,25 @@ public class UserMapper {
                 .isActive(user.isActive())
                 .build();
     }
+
+    /**
+     * Convierte una proyección de usuario y sus colecciones ya cargadas en un UserResponseDto.
+     * @param row columnas escalares del usuario
+     * @param phones teléfonos del usuario
+     * @param roles nombres de los roles del usuario
+     * @return DTO de respuesta
+     */
+    public UserResponseDto mapToUserResponseDto(UserRow row, List<PhoneDto> phones, Set<String> roles) {
+        return UserResponseDto.builder()
+                .id(row.getId())
+                .name(row.getName())
+                .email(row.getEmail())
+                .phones(phones)
+                .roles(roles)
+                .created(row.getCreated())
+                .modified(row.getModified())
+                .lastLogin(row.getLastLogin())
+                .isActive(row.isActive())
+                .build();
+    }
 }
@@ -0,0 +1,68 @@
+package cl.ejercicio.java.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Endpoint de Actuator {@code /actuator/allocations} (requiere {@code ROLE_ADMIN}) con los bytes asignados
+ * por solicitud de cada endpoint, medidos por {@link AllocationProfilingFilter}.
+ * <p>Los endpoints se ordenan por bytes totales, de mayor a menor. {@code count}, {@code totalBytes} y
+ * {@code meanBytes} son acumulados desde el arranque; {@code maxBytes} y los percentiles
+ * ({@code management.metrics.distribution.percentiles}) corresponden a la ventana reciente de Micrometer.</p>
+ */
+@Endpoint(id = "allocations")
+@RequiredArgsConstructor
+public class AllocationEndpoint {
+
+    private final MeterRegistry registry;
+
+    @ReadOperation
+    public Map<String, Object> report() {
+        List<EndpointAllocation> endpoints = registry.find(AllocationProfilingFilter.METRIC).summaries().stream()
+                .map(AllocationEndpoint::toAllocation)
+                .sorted(Comparator.comparingDouble(EndpointAllocation::totalBytes).reversed())
+                .toList();
+        double unmeasured = registry.find(AllocationProfilingFilter.UNMEASURED_METRIC).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("endpoints", endpoints);
+        report.put("unmeasuredRequests", (long) unmeasured);
+        return report;
+    }
+
+    private static EndpointAllocation toAllocation(DistributionSummary summary) {
+        HistogramSnapshot snapshot = summary.takeSnapshot();
+        Map<String, Long> percentiles = new LinkedHashMap<>();
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            percentiles.put("p" + Math.round(percentile.percentile() * 100), (long) percentile.value());
+        }
+        return new EndpointAllocation(summary.getId().getTag("method"), summary.getId().getTag("endpoint"),
+                snapshot.count(), snapshot.total(), (long) snapshot.mean(), (long) snapshot.max(), percentiles);
+    }
+
+    /**
+     * Asignación de un endpoint.
+     *
+     * @param method      método HTTP
+     * @param endpoint    patrón de la ruta
+     * @param count       solicitudes medidas
+     * @param totalBytes  bytes asignados en total
+     * @param meanBytes   promedio por solicitud
+     * @param maxBytes    máximo por solicitud en la ventana reciente
+     * @param percentiles percentiles por solicitud en la ventana reciente
+     */
+    public record EndpointAllocation(String method, String endpoint, long count, double totalBytes,
+                                     long meanBytes, long maxBytes, Map<String, Long> percentiles) {
+    }
+}
@@ -0,0 +1,63 @@
+package cl.ejercicio.java.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Mide los bytes asignados en el heap por cada solicitud con el contador de asignación del hilo
+ * ({@link com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()}) y los publica en la
+ * distribución {@value #METRIC}, etiquetada con {@code endpoint} y {@code method}.
+ * <p>Solo cuenta lo asignado en el hilo que atiende la solicitud (no las subtareas de un
+ * {@code StructuredTaskScope} ni los hilos {@code @Async}). La JVM no lleva el contador para los hilos
+ * virtuales; esas solicitudes se cuentan en {@value #UNMEASURED_METRIC}.</p>
+ */
+public class AllocationProfilingFilter extends OncePerRequestFilter {
+
+    public static final String METRIC = "http.server.requests.allocated";
+    public static final String UNMEASURED_METRIC = "http.server.requests.allocated.unmeasured";
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final MeterRegistry registry;
+    private final Counter unmeasured;
+
+    public AllocationProfilingFilter(MeterRegistry registry) {
+        this.registry = registry;
+        this.unmeasured = Counter.builder(UNMEASURED_METRIC)
+                .description("Solicitudes sin medir (hilos virtuales o contador no disponible)")
+                .register(registry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long start = threads.getCurrentThreadAllocatedBytes();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long end = start < 0 ? -1 : threads.getCurrentThreadAllocatedBytes();
+            if (end < 0) {
+                unmeasured.increment();
+            } else {
+                String endpoint = RequestEndpoint.of(request).pattern().orElse(OperationMetrics.UNKNOWN_ENDPOINT);
+                DistributionSummary.builder(METRIC)
+                        .description("Bytes asignados en el heap por solicitud")
+                        .baseUnit("bytes")
+                        .tag("endpoint", endpoint)
+                        .tag("method", request.getMethod())
+                        .register(registry)
+                        .record(end - start);
+            }
+        }
+    }
+}
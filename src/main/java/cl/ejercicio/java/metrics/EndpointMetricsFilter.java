@@ -0,0 +1,39 @@
+package cl.ejercicio.java.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Enlaza {@link RequestEndpoint} alrededor del resto de la cadena y, al terminar, publica las
+ * mediciones que quedaron pendientes antes del enrutamiento.
+ */
+@RequiredArgsConstructor
+public class EndpointMetricsFilter extends OncePerRequestFilter {
+
+    private final OperationMetrics operationMetrics;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestEndpoint endpoint = RequestEndpoint.of(request);
+        try {
+            endpoint.call(() -> {
+                filterChain.doFilter(request, response);
+                return null;
+            });
+        } catch (IOException | ServletException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServletException(e);
+        } finally {
+            operationMetrics.flush(endpoint);
+        }
+    }
+}
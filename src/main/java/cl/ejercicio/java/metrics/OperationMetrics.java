@@ -0,0 +1,74 @@
+package cl.ejercicio.java.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publica la latencia de operaciones internas (verificación JWT, BCrypt, repositorios) como
+ * {@link Timer}s etiquetados con {@code endpoint} y {@code outcome}.
+ * <p>Los histogramas se activan por nombre con
+ * {@code management.metrics.distribution.percentiles-histogram.*}.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class OperationMetrics {
+
+    /** Endpoint de las solicitudes que no llegaron a enrutarse (401, 404, 503...). */
+    public static final String UNKNOWN_ENDPOINT = "UNKNOWN";
+
+    /** Endpoint de las operaciones fuera de una solicitud HTTP (gRPC, arranque). */
+    public static final String NO_ENDPOINT = "none";
+
+    public static final String OUTCOME_SUCCESS = "SUCCESS";
+    public static final String OUTCOME_ERROR = "ERROR";
+
+    private final MeterRegistry registry;
+
+    /**
+     * Registra una medición. Si la solicitud en curso aún no está enrutada queda pendiente hasta
+     * que {@link EndpointMetricsFilter} la publique con el endpoint final.
+     *
+     * También suma la duración a {@code phase} en {@link ServerTiming}, si se están midiendo tiempos.
+     *
+     * @param name  nombre del timer
+     * @param phase fase de {@link ServerTiming}
+     * @param tags  etiquetas propias de la operación (incluido {@code outcome})
+     * @param nanos duración
+     */
+    public void record(String name, String phase, Tags tags, long nanos) {
+        ServerTiming.add(phase, nanos);
+        RequestEndpoint.current().ifPresentOrElse(
+                endpoint -> endpoint.pattern().ifPresentOrElse(
+                        pattern -> publish(name, tags, pattern, nanos),
+                        () -> endpoint.defer(name, tags, nanos)),
+                () -> publish(name, tags, NO_ENDPOINT, nanos));
+    }
+
+    /**
+     * @param startNanos valor de {@link System#nanoTime()} al iniciar la operación
+     * @return nanosegundos transcurridos desde {@code startNanos}
+     */
+    public static long since(long startNanos) {
+        return System.nanoTime() - startNanos;
+    }
+
+    void flush(RequestEndpoint endpoint) {
+        String pattern = endpoint.pattern().orElse(UNKNOWN_ENDPOINT);
+        for (RequestEndpoint.Sample sample : endpoint.drain()) {
+            publish(sample.name(), sample.tags(), pattern, sample.nanos());
+        }
+    }
+
+    private void publish(String name, Tags tags, String endpoint, long nanos) {
+        Timer.builder(name)
+                .tags(tags)
+                .tag("endpoint", endpoint)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
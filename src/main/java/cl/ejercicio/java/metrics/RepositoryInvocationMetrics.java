@@ -0,0 +1,38 @@
+package cl.ejercicio.java.metrics;
+
+import io.micrometer.core.instrument.Tags;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Mide cada invocación de un repositorio de Spring Data en el timer {@code repository.invocations}
+ * (etiquetas {@code repository}, {@code method} y {@code outcome}).
+ * <p>Reemplaza a {@code spring.data.repository.invocations} de Actuator para que las consultas hechas en
+ * la cadena de seguridad (carga del usuario del JWT) también queden asociadas a su endpoint.</p>
+ */
+public class RepositoryInvocationMetrics implements RepositoryMethodInvocationListener {
+
+    static final String METRIC = "repository.invocations";
+
+    private final Supplier<OperationMetrics> operationMetrics;
+
+    public RepositoryInvocationMetrics(Supplier<OperationMetrics> operationMetrics) {
+        this.operationMetrics = SingletonSupplier.of(operationMetrics);
+    }
+
+    @Override
+    public void afterInvocation(RepositoryMethodInvocation invocation) {
+        RepositoryMethodInvocationResult result = invocation.getResult();
+        String outcome = result == null || result.getState() == RepositoryMethodInvocationResult.State.SUCCESS
+                ? OperationMetrics.OUTCOME_SUCCESS
+                : OperationMetrics.OUTCOME_ERROR;
+        Tags tags = Tags.of(
+                "repository", invocation.getRepositoryInterface().getSimpleName(),
+                "method", invocation.getMethod().getName(),
+                "outcome", outcome);
+        operationMetrics.get().record(METRIC, ServerTiming.DB, tags, invocation.getDuration(TimeUnit.NANOSECONDS));
+    }
+}
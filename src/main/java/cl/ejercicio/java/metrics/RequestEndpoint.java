@@ -0,0 +1,106 @@
+package cl.ejercicio.java.metrics;
+
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Solicitud HTTP en curso, enlazada en un {@link ScopedValue} por {@link EndpointMetricsFilter}.
+ * <p>El endpoint de una solicitud (el patrón de su {@code @RequestMapping}) solo se conoce cuando el
+ * {@code DispatcherServlet} la enruta. Las mediciones tomadas antes, en la cadena de seguridad, quedan
+ * pendientes aquí y se publican al terminar la solicitud con el patrón ya resuelto. Las subtareas de un
+ * {@code StructuredTaskScope} heredan el enlace.</p>
+ */
+public final class RequestEndpoint {
+
+    private static final ScopedValue<RequestEndpoint> CURRENT = ScopedValue.newInstance();
+    private static final int PREFIX_SEGMENTS = 4;
+
+    private final HttpServletRequest request;
+    private final Queue<Sample> deferred = new ConcurrentLinkedQueue<>();
+
+    private RequestEndpoint(HttpServletRequest request) {
+        this.request = request;
+    }
+
+    /**
+     * @param request solicitud a medir
+     * @return el endpoint de {@code request}, aún sin enlazar
+     */
+    public static RequestEndpoint of(HttpServletRequest request) {
+        return new RequestEndpoint(request);
+    }
+
+    /**
+     * Ejecuta {@code operation} con este endpoint como endpoint actual.
+     *
+     * @param operation operación a ejecutar
+     * @param <T>       tipo del resultado
+     * @return el resultado de {@code operation}
+     * @throws Exception la excepción lanzada por {@code operation}
+     */
+    public <T> T call(Callable<T> operation) throws Exception {
+        return ScopedValue.where(CURRENT, this).call(operation);
+    }
+
+    /**
+     * @return el endpoint de la solicitud en curso, si lo hay
+     */
+    public static Optional<RequestEndpoint> current() {
+        return CURRENT.isBound() ? Optional.of(CURRENT.get()) : Optional.empty();
+    }
+
+    /**
+     * @return el patrón de la ruta, una vez que el {@code DispatcherServlet} enrutó la solicitud
+     */
+    public Optional<String> pattern() {
+        return Optional.ofNullable(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE))
+                .map(Object::toString);
+    }
+
+    /**
+     * Describe el endpoint sin datos de la solicitud: el patrón si ya se enrutó, o los cuatro primeros
+     * segmentos de la ruta seguidos de {@code /**} (por ejemplo, en la cadena de seguridad).
+     *
+     * @return descripción del endpoint
+     */
+    public String label() {
+        return pattern().orElseGet(() -> {
+            String path = request.getServletPath();
+            int end = 0;
+            for (int segments = 0; segments < PREFIX_SEGMENTS && end >= 0; segments++) {
+                end = path.indexOf('/', end + 1);
+            }
+            return end < 0 ? path : path.substring(0, end) + "/**";
+        });
+    }
+
+    /**
+     * @return {@link #label()} de la solicitud en curso, o {@link OperationMetrics#NO_ENDPOINT} fuera de una
+     */
+    public static String currentLabel() {
+        return CURRENT.isBound() ? CURRENT.get().label() : OperationMetrics.NO_ENDPOINT;
+    }
+
+    void defer(String name, Tags tags, long nanos) {
+        deferred.add(new Sample(name, tags, nanos));
+    }
+
+    List<Sample> drain() {
+        List<Sample> samples = new ArrayList<>(deferred.size());
+        for (Sample sample; (sample = deferred.poll()) != null; ) {
+            samples.add(sample);
+        }
+        return samples;
+    }
+
+    record Sample(String name, Tags tags, long nanos) {
+    }
+}
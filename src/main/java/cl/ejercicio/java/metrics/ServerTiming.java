@@ -0,0 +1,138 @@
+package cl.ejercicio.java.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tiempos por fase de la solicitud en curso, enlazados en un {@link ScopedValue} por
+ * {@link ServerTimingFilter} y publicados en el encabezado {@code Server-Timing}.
+ * <p>Sin el filtro nada está enlazado y {@link #add(String, long)} solo consulta {@link ScopedValue#isBound()}.
+ * Las fases pueden solaparse: {@code user-details} incluye su consulta en {@code db}, y {@code service}
+ * incluye todo lo que ocurre dentro del controlador.</p>
+ */
+public final class ServerTiming {
+
+    public static final String JWT = "jwt";
+    public static final String USER_DETAILS = "user-details";
+    public static final String BCRYPT = "bcrypt";
+    public static final String DB = "db";
+    public static final String SERVICE = "service";
+    public static final String SERIALIZATION = "serialization";
+
+    /** Orden de las fases en el encabezado; otras fases se agregan al final. */
+    private static final List<String> ORDER = List.of(JWT, USER_DETAILS, BCRYPT, DB, SERVICE, SERIALIZATION);
+
+    private static final ScopedValue<ServerTiming> CURRENT = ScopedValue.newInstance();
+
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Phase> phases = new ConcurrentHashMap<>();
+    private volatile long handlerStartNanos;
+    private volatile long bodyWriteNanos;
+
+    private ServerTiming() {
+    }
+
+    /**
+     * @return tiempos de una solicitud nueva, medidos desde ahora
+     */
+    public static ServerTiming start() {
+        return new ServerTiming();
+    }
+
+    /**
+     * Ejecuta {@code operation} con estos tiempos como los de la solicitud actual.
+     *
+     * @param operation operación a ejecutar
+     * @param <T>       tipo del resultado
+     * @return el resultado de {@code operation}
+     * @throws Exception la excepción lanzada por {@code operation}
+     */
+    public <T> T call(Callable<T> operation) throws Exception {
+        return ScopedValue.where(CURRENT, this).call(operation);
+    }
+
+    /**
+     * Suma {@code nanos} a {@code phase} en la solicitud actual, si se están midiendo tiempos.
+     *
+     * @param phase nombre de la fase
+     * @param nanos duración
+     */
+    public static void add(String phase, long nanos) {
+        if (CURRENT.isBound()) {
+            CURRENT.get().phases.computeIfAbsent(phase, name -> new Phase()).add(nanos);
+        }
+    }
+
+    /** Inicio del controlador: desde aquí corre {@link #SERVICE}. */
+    void markHandlerStart() {
+        handlerStartNanos = System.nanoTime();
+    }
+
+    /** El controlador terminó y su respuesta se va a escribir: desde aquí corre {@link #SERIALIZATION}. */
+    void markBodyWrite() {
+        long now = System.nanoTime();
+        if (handlerStartNanos != 0 && bodyWriteNanos == 0) {
+            bodyWriteNanos = now;
+            add(SERVICE, now - handlerStartNanos);
+        }
+    }
+
+    /** Fin del procesamiento en el {@code DispatcherServlet}. */
+    void markHandlerEnd() {
+        long now = System.nanoTime();
+        if (bodyWriteNanos != 0) {
+            add(SERIALIZATION, now - bodyWriteNanos);
+        } else if (handlerStartNanos != 0) {
+            add(SERVICE, now - handlerStartNanos);
+        }
+    }
+
+    static ServerTiming current() {
+        return CURRENT.isBound() ? CURRENT.get() : null;
+    }
+
+    /**
+     * @return valor del encabezado {@code Server-Timing}, en milisegundos, con {@code total} al final
+     */
+    public String header() {
+        List<String> names = new ArrayList<>(ORDER);
+        phases.keySet().stream().filter(name -> !ORDER.contains(name)).sorted().forEach(names::add);
+
+        StringBuilder header = new StringBuilder();
+        for (String name : names) {
+            Phase phase = phases.get(name);
+            if (phase != null) {
+                appendMetric(header, name, phase.nanos.sum());
+                long count = phase.count.sum();
+                if (count > 1) {
+                    header.append(";desc=\"x").append(count).append('"');
+                }
+            }
+        }
+        appendMetric(header, "total", System.nanoTime() - startNanos);
+        return header.toString();
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long nanos) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0));
+    }
+
+    private static final class Phase {
+
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder count = new LongAdder();
+
+        void add(long duration) {
+            nanos.add(duration);
+            count.increment();
+        }
+    }
+}
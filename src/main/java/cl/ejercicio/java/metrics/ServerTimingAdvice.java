@@ -0,0 +1,57 @@
+package cl.ejercicio.java.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Separa en {@link ServerTiming} el tiempo del controlador ({@code service}: controlador y servicios)
+ * del de los {@link HttpMessageConverter} ({@code serialization}).
+ * <p>Actúa como interceptor (inicio y fin del controlador) y como {@link ResponseBodyAdvice}
+ * (justo antes de que el convertidor escriba el cuerpo); {@code ServerTimingConfig} lo agrega como interceptor.</p>
+ */
+@ControllerAdvice
+@ConditionalOnProperty(prefix = "server-timing", name = "enabled", havingValue = "true")
+public class ServerTimingAdvice implements HandlerInterceptor, ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ServerTiming timing = ServerTiming.current();
+        if (timing != null) {
+            timing.markHandlerStart();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ServerTiming timing = ServerTiming.current();
+        if (timing != null) {
+            timing.markHandlerEnd();
+        }
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        ServerTiming timing = ServerTiming.current();
+        if (timing != null) {
+            timing.markBodyWrite();
+        }
+        return body;
+    }
+}
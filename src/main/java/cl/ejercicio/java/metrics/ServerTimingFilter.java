@@ -0,0 +1,58 @@
+package cl.ejercicio.java.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Mide las fases de cada solicitud ({@link ServerTiming}) y las informa en el encabezado
+ * {@code Server-Timing} y, opcionalmente, en el log de acceso ({@code http.access}).
+ * <p>El cuerpo de la respuesta se retiene hasta el final para que el encabezado incluya la serialización;
+ * por eso el filtro solo se registra con {@code server-timing.enabled=true}.</p>
+ */
+@RequiredArgsConstructor
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "Server-Timing";
+
+    private static final Logger accessLog = LoggerFactory.getLogger("http.access");
+
+    private final boolean logAccess;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ServerTiming timing = ServerTiming.start();
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        try {
+            timing.call(() -> {
+                filterChain.doFilter(request, buffered);
+                return null;
+            });
+        } catch (IOException | ServletException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServletException(e);
+        } finally {
+            String header = timing.header();
+            if (!buffered.isCommitted()) {
+                buffered.setHeader(HEADER, header);
+            }
+            if (logAccess) {
+                accessLog.atInfo()
+                        .addKeyValue("server_timing", header)
+                        .log("{} {} {} {}", request.getMethod(), request.getRequestURI(), buffered.getStatus(), header);
+            }
+            buffered.copyBodyToResponse();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package cl.ejercicio.java.metrics;
+
+import cl.ejercicio.java.monitoring.jfr.JfrEvents;
+import cl.ejercicio.java.monitoring.jfr.PasswordHashEvent;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Mide {@code encode} y {@code matches} del {@link PasswordEncoder} delegado en el timer
+ * {@code password.encoder} (etiquetas {@code operation} y {@code outcome}) y en el evento JFR
+ * {@link PasswordHashEvent}.
+ */
+@RequiredArgsConstructor
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    static final String METRIC = "password.encoder";
+    static final String OUTCOME_MISMATCH = "MISMATCH";
+
+    private final PasswordEncoder delegate;
+    private final OperationMetrics operationMetrics;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long start = System.nanoTime();
+        String outcome = OperationMetrics.OUTCOME_ERROR;
+        String encoded = null;
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        try {
+            encoded = delegate.encode(rawPassword);
+            outcome = OperationMetrics.OUTCOME_SUCCESS;
+            return encoded;
+        } finally {
+            commit(event, "encode", encoded, outcome);
+            operationMetrics.record(METRIC, ServerTiming.BCRYPT, Tags.of("operation", "encode", "outcome", outcome),
+                    OperationMetrics.since(start));
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long start = System.nanoTime();
+        String outcome = OperationMetrics.OUTCOME_ERROR;
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        try {
+            boolean matches = delegate.matches(rawPassword, encodedPassword);
+            outcome = matches ? OperationMetrics.OUTCOME_SUCCESS : OUTCOME_MISMATCH;
+            return matches;
+        } finally {
+            commit(event, "matches", encodedPassword, outcome);
+            operationMetrics.record(METRIC, ServerTiming.BCRYPT, Tags.of("operation", "matches", "outcome", outcome),
+                    OperationMetrics.since(start));
+        }
+    }
+
+    private static void commit(PasswordHashEvent event, String operation, String hash, String outcome) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.endpoint = RequestEndpoint.currentLabel();
+            event.operation = operation;
+            event.cost = JfrEvents.bcryptCost(hash);
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,116 @@
+package cl.ejercicio.java.monitoring;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Detecta hilos virtuales fijados a su hilo portador mediante el evento JFR {@code jdk.VirtualThreadPinned}.
+ * <p>Un hilo virtual queda fijado al bloquearse dentro de {@code synchronized} o de código nativo,
+ * y mientras tanto ocupa uno de los pocos hilos portadores. Cada evento se agrupa por el primer frame
+ * de JDBC, Hibernate, H2, Hikari o de la aplicación, y cada sitio se informa en el log la primera vez.</p>
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    /** Paquetes que identifican el sitio relevante de un fijado, en orden de preferencia. */
+    private static final List<String> SITE_PACKAGES = List.of(
+            "org.h2.", "com.zaxxer.hikari.", "org.hibernate.", "java.sql.", "cl.ejercicio.java.");
+
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final Map<String, LongAdder> pinnedBySite = new ConcurrentHashMap<>();
+    private final LongAdder pinnedTotal = new LongAdder();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public synchronized void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Monitor de hilos virtuales fijados activo (umbral {} ms)", threshold.toMillis());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    /**
+     * @return total de fijados registrados sobre el umbral
+     */
+    public long getPinnedTotal() {
+        return pinnedTotal.sum();
+    }
+
+    /**
+     * @return fijados por sitio ({@code clase.método:línea})
+     */
+    public Map<String, Long> getPinnedBySite() {
+        return pinnedBySite.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedTotal.increment();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        String site = site(frames);
+
+        LongAdder counter = pinnedBySite.computeIfAbsent(site, key -> new LongAdder());
+        counter.increment();
+        if (counter.sum() == 1) {
+            log.warn("Hilo virtual fijado {} ms en {}:\n{}", event.getDuration().toMillis(), site, format(frames));
+        } else {
+            log.debug("Hilo virtual fijado {} ms en {}", event.getDuration().toMillis(), site);
+        }
+    }
+
+    private static String site(List<RecordedFrame> frames) {
+        for (String prefix : SITE_PACKAGES) {
+            for (RecordedFrame frame : frames) {
+                if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(prefix)) {
+                    return describe(frame);
+                }
+            }
+        }
+        return frames.isEmpty() ? "desconocido" : describe(frames.get(0));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static String format(List<RecordedFrame> frames) {
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + describe(frame))
+                .collect(Collectors.joining("\n"));
+    }
+}
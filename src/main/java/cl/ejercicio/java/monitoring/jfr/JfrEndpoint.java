@@ -0,0 +1,72 @@
+package cl.ejercicio.java.monitoring.jfr;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Endpoint de Actuator {@code /actuator/jfr} (requiere {@code ROLE_ADMIN}):
+ * <ul>
+ *     <li>{@code GET /actuator/jfr}: estado de la grabación y eventos más lentos recientes.</li>
+ *     <li>{@code POST /actuator/jfr/start} (opcional {@code {"maxAge": "10m", "maxSize": "50MB"}}) y
+ *     {@code POST /actuator/jfr/stop}, con {@code Content-Type: application/json}.</li>
+ *     <li>{@code GET /actuator/jfr/recording.jfr}: volcado de lo retenido, para abrir en JDK Mission Control.</li>
+ * </ul>
+ */
+@Endpoint(id = "jfr")
+public class JfrEndpoint {
+
+    static final String DUMP_FILE = "recording.jfr";
+
+    private final JfrRecorder recorder;
+    private final SlowEventAggregator aggregator;
+
+    public JfrEndpoint(JfrRecorder recorder, @Nullable SlowEventAggregator aggregator) {
+        this.recorder = recorder;
+        this.aggregator = aggregator;
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("recording", recorder.status());
+        if (aggregator != null) {
+            status.put("slowest", aggregator.slowest());
+        }
+        return status;
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> control(@Selector String action,
+                                                            @Nullable Duration maxAge,
+                                                            @Nullable DataSize maxSize) {
+        return switch (action) {
+            case "start" -> new WebEndpointResponse<>(recorder.start(maxAge, maxSize));
+            case "stop" -> new WebEndpointResponse<>(recorder.stop());
+            default -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        };
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump(@Selector String file) {
+        if (!DUMP_FILE.equals(file)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Path dump = recorder.dump();
+        if (dump == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(new FileSystemResource(dump));
+    }
+}
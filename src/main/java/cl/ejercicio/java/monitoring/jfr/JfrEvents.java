@@ -0,0 +1,40 @@
+package cl.ejercicio.java.monitoring.jfr;
+
+import jdk.jfr.Event;
+
+import java.util.List;
+
+/**
+ * Eventos JFR propios de la aplicación. Ningún evento lleva tokens, contraseñas ni hashes.
+ * <p>Sin una grabación activa, {@code begin()}/{@code commit()} no hacen nada y el JIT suele eliminar
+ * la instancia del evento.</p>
+ */
+public final class JfrEvents {
+
+    static final String PREFIX = "cl.ejercicio.java.";
+    static final String CATEGORY = "Ejercicio Java";
+
+    /** Todos los eventos propios. */
+    public static final List<Class<? extends Event>> ALL = List.of(
+            JwtVerificationEvent.class,
+            PasswordHashEvent.class,
+            UserDetailsLoadEvent.class,
+            RepositoryCallEvent.class,
+            SerializationEvent.class);
+
+    private JfrEvents() {
+    }
+
+    /**
+     * @param hash hash BCrypt ({@code $2a$10$...})
+     * @return el factor de costo del hash, o -1 si no tiene el formato esperado
+     */
+    public static int bcryptCost(String hash) {
+        if (hash == null || hash.length() < 7 || hash.charAt(0) != '$' || hash.charAt(3) != '$') {
+            return -1;
+        }
+        char tens = hash.charAt(4);
+        char units = hash.charAt(5);
+        return Character.isDigit(tens) && Character.isDigit(units) ? (tens - '0') * 10 + (units - '0') : -1;
+    }
+}
@@ -0,0 +1,140 @@
+package cl.ejercicio.java.monitoring.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Grabación JFR continua y acotada, controlada desde {@link JfrEndpoint}.
+ * <p>La grabación usa la configuración indicada ({@code default} tiene un costo cercano al 1 %) más los
+ * eventos de {@link JfrEvents}, y descarta lo más antiguo al superar {@code maxAge} o {@code maxSize}.
+ * Solo se conserva el último volcado en disco.</p>
+ */
+@Slf4j
+public class JfrRecorder implements AutoCloseable {
+
+    static final String RECORDING_NAME = "ejercicio-java";
+
+    private final String settings;
+    private final Duration maxAgeLimit;
+    private final DataSize maxSizeLimit;
+    private Recording recording;
+    private Path lastDump;
+
+    public JfrRecorder(String settings, Duration maxAgeLimit, DataSize maxSizeLimit) {
+        this.settings = settings;
+        this.maxAgeLimit = maxAgeLimit;
+        this.maxSizeLimit = maxSizeLimit;
+    }
+
+    /**
+     * Inicia la grabación; si ya estaba activa solo actualiza sus límites.
+     *
+     * @param maxAge  antigüedad máxima de los datos retenidos (acotada por la configuración)
+     * @param maxSize tamaño máximo retenido (acotado por la configuración)
+     * @return estado de la grabación
+     */
+    public synchronized Map<String, Object> start(Duration maxAge, DataSize maxSize) {
+        if (recording == null || recording.getState() == RecordingState.CLOSED) {
+            recording = newRecording();
+        }
+        recording.setMaxAge(min(maxAge, maxAgeLimit));
+        recording.setMaxSize(Math.min(maxSize != null ? maxSize.toBytes() : Long.MAX_VALUE, maxSizeLimit.toBytes()));
+        if (recording.getState() == RecordingState.NEW) {
+            recording.start();
+            log.info("Grabación JFR iniciada (settings={}, maxAge={}, maxSize={} bytes)",
+                    settings, recording.getMaxAge(), recording.getMaxSize());
+        }
+        return status();
+    }
+
+    /**
+     * Detiene y descarta la grabación.
+     *
+     * @return estado de la grabación
+     */
+    public synchronized Map<String, Object> stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+            log.info("Grabación JFR detenida");
+        }
+        return status();
+    }
+
+    /**
+     * Vuelca lo retenido hasta ahora sin detener la grabación.
+     *
+     * @return archivo {@code .jfr}, o null si no hay una grabación activa
+     */
+    public synchronized Path dump() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            return null;
+        }
+        try {
+            Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+            recording.dump(file);
+            if (lastDump != null) {
+                Files.deleteIfExists(lastDump);
+            }
+            lastDump = file;
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo volcar la grabación JFR", e);
+        }
+    }
+
+    /**
+     * @return estado de la grabación: {@code state}, {@code settings}, {@code maxAge}, {@code maxSize}, {@code size}
+     */
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", recording != null ? recording.getState().name() : "STOPPED");
+        status.put("settings", settings);
+        if (recording != null) {
+            status.put("startTime", recording.getStartTime());
+            status.put("maxAge", recording.getMaxAge());
+            status.put("maxSize", recording.getMaxSize());
+            status.put("size", recording.getSize());
+        }
+        return status;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        stop();
+        if (lastDump != null) {
+            Files.deleteIfExists(lastDump);
+        }
+    }
+
+    private Recording newRecording() {
+        try {
+            Recording created = new Recording(Configuration.getConfiguration(settings));
+            created.setName(RECORDING_NAME);
+            created.setToDisk(true);
+            for (Class<? extends Event> event : JfrEvents.ALL) {
+                created.enable(event);
+            }
+            return created;
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Configuración JFR inválida: " + settings, e);
+        }
+    }
+
+    private static Duration min(Duration requested, Duration limit) {
+        return requested == null || requested.compareTo(limit) > 0 ? limit : requested;
+    }
+}
@@ -0,0 +1,28 @@
+package cl.ejercicio.java.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Verificación de un JWT en {@code JwtService.validateAndParseToken}.
+ */
+@Name(JwtVerificationEvent.NAME)
+@Label("Verificación de JWT")
+@Category({JfrEvents.CATEGORY, "Seguridad"})
+@Description("Verificación de firma, issuer, audience y expiración de un JWT (JwtService.validateAndParseToken).")
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+
+    public static final String NAME = JfrEvents.PREFIX + "JwtVerification";
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Resultado")
+    @Description("SUCCESS, EXPIRED o INVALID")
+    public String outcome;
+}
@@ -0,0 +1,36 @@
+package cl.ejercicio.java.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Cálculo o verificación de un hash BCrypt.
+ */
+@Name(PasswordHashEvent.NAME)
+@Label("Hash de contraseña")
+@Category({JfrEvents.CATEGORY, "Seguridad"})
+@Description("Cálculo o verificación de un hash BCrypt.")
+@StackTrace(false)
+public class PasswordHashEvent extends Event {
+
+    public static final String NAME = JfrEvents.PREFIX + "PasswordHash";
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Operación")
+    @Description("encode o matches")
+    public String operation;
+
+    @Label("Costo")
+    @Description("Factor de costo de BCrypt (log2 de las rondas), -1 si no se conoce")
+    public int cost = -1;
+
+    @Label("Resultado")
+    @Description("SUCCESS, MISMATCH o ERROR")
+    public String outcome;
+}
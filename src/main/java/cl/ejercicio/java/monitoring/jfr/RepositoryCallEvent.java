@@ -0,0 +1,38 @@
+package cl.ejercicio.java.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Invocación de un método de un repositorio de Spring Data.
+ */
+@Name(RepositoryCallEvent.NAME)
+@Label("Llamada a repositorio")
+@Category({JfrEvents.CATEGORY, "Base de datos"})
+@Description("Invocación de un método de un repositorio de Spring Data.")
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    public static final String NAME = JfrEvents.PREFIX + "RepositoryCall";
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Repositorio")
+    public String repository;
+
+    @Label("Método")
+    public String method;
+
+    @Label("Filas")
+    @Description("Entidades devueltas; -1 para resultados escalares (exists, count, void)")
+    public long rows = -1;
+
+    @Label("Resultado")
+    @Description("SUCCESS o ERROR")
+    public String outcome;
+}
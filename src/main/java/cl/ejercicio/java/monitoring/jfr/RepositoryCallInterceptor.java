@@ -0,0 +1,59 @@
+package cl.ejercicio.java.monitoring.jfr;
+
+import cl.ejercicio.java.metrics.OperationMetrics;
+import cl.ejercicio.java.metrics.RequestEndpoint;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Emite un {@link RepositoryCallEvent} por cada método invocado en el proxy de un repositorio.
+ */
+public class RepositoryCallInterceptor implements MethodInterceptor {
+
+    private final String repository;
+
+    public RepositoryCallInterceptor(Class<?> repositoryInterface) {
+        this.repository = repositoryInterface.getSimpleName();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        Object result = null;
+        String outcome = OperationMetrics.OUTCOME_ERROR;
+        try {
+            result = invocation.proceed();
+            outcome = OperationMetrics.OUTCOME_SUCCESS;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.endpoint = RequestEndpoint.currentLabel();
+                event.repository = repository;
+                event.method = invocation.getMethod().getName();
+                event.rows = rows(result, invocation.getMethod().getReturnType());
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    private static long rows(Object result, Class<?> returnType) {
+        return switch (result) {
+            case Collection<?> collection -> collection.size();
+            case Map<?, ?> map -> map.size();
+            case Optional<?> optional -> optional.isPresent() ? 1 : 0;
+            case Slice<?> slice -> slice.getNumberOfElements();
+            case Boolean ignored -> -1;
+            case Number ignored -> -1;
+            case null -> returnType == void.class ? -1 : 0;
+            default -> 1;
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package cl.ejercicio.java.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Escritura del cuerpo de una respuesta por un {@code HttpMessageConverter}.
+ */
+@Name(SerializationEvent.NAME)
+@Label("Serialización de respuesta")
+@Category({JfrEvents.CATEGORY, "Web"})
+@Description("Escritura del cuerpo de una respuesta por un HttpMessageConverter.")
+@StackTrace(false)
+public class SerializationEvent extends Event {
+
+    public static final String NAME = JfrEvents.PREFIX + "Serialization";
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Convertidor")
+    public String converter;
+
+    @Label("Tipo de contenido")
+    public String mediaType;
+
+    @Label("Tipo del cuerpo")
+    public String bodyType;
+}
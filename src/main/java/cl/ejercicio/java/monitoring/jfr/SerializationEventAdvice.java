@@ -0,0 +1,58 @@
+package cl.ejercicio.java.monitoring.jfr;
+
+import cl.ejercicio.java.metrics.RequestEndpoint;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Emite un {@link SerializationEvent} desde que se elige el {@link HttpMessageConverter} de la respuesta
+ * hasta que el {@code DispatcherServlet} termina de escribirla.
+ * <p>Actúa como {@link ResponseBodyAdvice} (inicio) y como interceptor (fin); {@code JfrConfig} lo agrega
+ * como interceptor. Sin una grabación activa no guarda nada en la solicitud.</p>
+ */
+@ControllerAdvice
+public class SerializationEventAdvice implements HandlerInterceptor, ResponseBodyAdvice<Object> {
+
+    private static final String ATTRIBUTE = SerializationEventAdvice.class.getName() + ".event";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SerializationEvent event = new SerializationEvent();
+        if (event.isEnabled() && request instanceof ServletServerHttpRequest servletRequest) {
+            event.converter = selectedConverterType.getSimpleName();
+            event.mediaType = String.valueOf(selectedContentType);
+            event.bodyType = body != null ? body.getClass().getSimpleName() : "null";
+            event.begin();
+            servletRequest.getServletRequest().setAttribute(ATTRIBUTE, event);
+        }
+        return body;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(ATTRIBUTE) instanceof SerializationEvent event) {
+            request.removeAttribute(ATTRIBUTE);
+            event.end();
+            if (event.shouldCommit()) {
+                event.endpoint = RequestEndpoint.currentLabel();
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package cl.ejercicio.java.monitoring.jfr;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.ValueDescriptor;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sigue los eventos de {@link JfrEvents} con un {@link RecordingStream} y conserva, por tipo de evento,
+ * los {@code topN} más lentos de la ventana actual y de la anterior.
+ * <p>Solo recibe eventos que superan {@code threshold}, de modo que el costo se concentra en los casos
+ * lentos. Los resultados se publican en {@link JfrEndpoint} y como el gauge
+ * {@code jfr.slowest.duration} (máximo de la ventana, etiqueta {@code event}).</p>
+ */
+@Slf4j
+public class SlowEventAggregator implements SmartLifecycle, MeterBinder {
+
+    private static final Comparator<SlowEvent> BY_DURATION = Comparator.comparing(SlowEvent::duration);
+    private static final Set<String> EXCLUDED_FIELDS = Set.of("startTime", "duration", "eventThread", "stackTrace");
+
+    private final Duration threshold;
+    private final Duration window;
+    private final int topN;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    public SlowEventAggregator(Duration threshold, Duration window, int topN) {
+        this.threshold = threshold;
+        this.window = window;
+        this.topN = topN;
+        for (Class<? extends Event> event : JfrEvents.ALL) {
+            windows.put(EventType.getEventType(event).getName(), new Window());
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        stream = new RecordingStream();
+        for (Class<? extends Event> event : JfrEvents.ALL) {
+            String name = EventType.getEventType(event).getName();
+            stream.enable(name).withThreshold(threshold).withoutStackTrace();
+            stream.onEvent(name, this::onEvent);
+        }
+        stream.startAsync();
+        log.info("Agregador de eventos JFR lentos activo (umbral {} ms, ventana {} s)",
+                threshold.toMillis(), window.toSeconds());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    /**
+     * @return por tipo de evento, los más lentos de la ventana actual y la anterior, del más lento al más rápido
+     */
+    public Map<String, List<SlowEvent>> slowest() {
+        long now = System.nanoTime();
+        Map<String, List<SlowEvent>> slowest = new LinkedHashMap<>();
+        windows.forEach((name, eventWindow) -> {
+            List<SlowEvent> events = eventWindow.snapshot(now);
+            if (!events.isEmpty()) {
+                slowest.put(name, events);
+            }
+        });
+        return slowest;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        windows.forEach((name, eventWindow) ->
+                Gauge.builder("jfr.slowest.duration", eventWindow, w -> w.maxMillis(System.nanoTime()))
+                        .description("Duración del evento JFR más lento de la ventana actual y la anterior")
+                        .baseUnit("milliseconds")
+                        .tag("event", name.substring(name.lastIndexOf('.') + 1))
+                        .register(registry));
+    }
+
+    private void onEvent(RecordedEvent event) {
+        Window eventWindow = windows.get(event.getEventType().getName());
+        if (eventWindow != null) {
+            eventWindow.offer(toSlowEvent(event), System.nanoTime());
+        }
+    }
+
+    private static SlowEvent toSlowEvent(RecordedEvent event) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        for (ValueDescriptor field : event.getFields()) {
+            String name = field.getName();
+            if (!EXCLUDED_FIELDS.contains(name)) {
+                attributes.put(name, event.getValue(name));
+            }
+        }
+        String thread = event.getThread() != null ? event.getThread().getJavaName() : null;
+        return new SlowEvent(event.getStartTime(), event.getDuration(), thread, attributes);
+    }
+
+    /**
+     * Un evento lento.
+     *
+     * @param startTime  inicio
+     * @param duration   duración
+     * @param thread     hilo que lo emitió
+     * @param attributes campos propios del evento (endpoint, resultado, filas...)
+     */
+    public record SlowEvent(Instant startTime, Duration duration, String thread, Map<String, Object> attributes) {
+    }
+
+    /** Los {@code topN} más lentos de la ventana actual y de la anterior. */
+    private final class Window {
+
+        private PriorityQueue<SlowEvent> current = new PriorityQueue<>(BY_DURATION);
+        private List<SlowEvent> previous = List.of();
+        private long windowStart = System.nanoTime();
+
+        synchronized void offer(SlowEvent event, long now) {
+            rotate(now);
+            current.offer(event);
+            if (current.size() > topN) {
+                current.poll();
+            }
+        }
+
+        synchronized List<SlowEvent> snapshot(long now) {
+            rotate(now);
+            List<SlowEvent> events = new ArrayList<>(current);
+            events.addAll(previous);
+            events.sort(BY_DURATION.reversed());
+            return events.size() > topN ? List.copyOf(events.subList(0, topN)) : events;
+        }
+
+        synchronized double maxMillis(long now) {
+            return snapshot(now).stream().findFirst().map(event -> event.duration().toNanos() / 1e6).orElse(0.0);
+        }
+
+        private void rotate(long now) {
+            long elapsed = now - windowStart;
+            if (elapsed < window.toNanos()) {
+                return;
+            }
+            // Si pasó más de una ventana sin eventos, la anterior también quedó vacía
+            previous = elapsed < 2 * window.toNanos() ? List.copyOf(current) : List.of();
+            current = new PriorityQueue<>(BY_DURATION);
+            windowStart = now;
+        }
+    }
+}
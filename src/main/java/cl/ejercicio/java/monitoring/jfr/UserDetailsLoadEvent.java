@@ -0,0 +1,30 @@
+package cl.ejercicio.java.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Carga de un usuario en {@code CustomUserDetailsService}.
+ */
+@Name(UserDetailsLoadEvent.NAME)
+@Label("Carga de usuario")
+@Category({JfrEvents.CATEGORY, "Seguridad"})
+@Description("Carga de un usuario y sus roles para Spring Security (CustomUserDetailsService).")
+@StackTrace(false)
+public class UserDetailsLoadEvent extends Event {
+
+    public static final String NAME = JfrEvents.PREFIX + "UserDetailsLoad";
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Encontrado")
+    public boolean found;
+
+    @Label("Roles")
+    public int roles;
+}
@@ -0,0 +1,23 @@
+package cl.ejercicio.java.repository;
+
+import cl.ejercicio.java.entity.Phone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PhoneRepository extends JpaRepository<Phone, Long> {
+
+    @Query("select p.user.id as userId, p.number as number, p.cityCode as cityCode, p.countryCode as countryCode "
+            + "from Phone p where p.user.id in :userIds order by p.id")
+    List<PhoneRow> findRowsByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+
+    @Query("select p.user.id as userId, p.number as number, p.cityCode as cityCode, p.countryCode as countryCode "
+            + "from Phone p order by p.id")
+    List<PhoneRow> findAllRows();
+}
@@ -0,0 +1,17 @@
+package cl.ejercicio.java.repository;
+
+import java.util.UUID;
+
+/**
+ * Proyección de un teléfono con el id del usuario al que pertenece.
+ */
+public interface PhoneRow {
+
+    UUID getUserId();
+
+    String getNumber();
+
+    String getCityCode();
+
+    String getCountryCode();
+}
@@ -0,0 +1,11 @@
+package cl.ejercicio.java.repository;
+
+/**
+ * Proyección con el email y el estado de un usuario, usada para resolver revocaciones por lotes.
+ */
+public interface UserActiveRow {
+
+    String getEmail();
+
+    boolean isActive();
+}
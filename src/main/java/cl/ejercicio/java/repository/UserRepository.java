@@ -2,14 +2,33 @@ package cl.ejercicio.java.repository;
 
 import cl.ejercicio.java.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository extends JpaRepository<User, UUID>, UserRowRepository {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
 
+    @Query("select u.id as id, u.version as version from User u where u.email = :email")
+    Optional<UserVersion> findVersionByEmail(@Param("email") String email);
+
+    @Query("select u.isActive from User u where u.email = :email")
+    Optional<Boolean> findActiveByEmail(@Param("email") String email);
+
+    @Query("select u.email as email, u.isActive as active from User u where u.email in :emails")
+    List<UserActiveRow> findActiveRowsByEmailIn(@Param("emails") Collection<String> emails);
+
+    @Query("select u.id as userId, r.name as name from User u join u.roles r where u.id in :userIds")
+    List<UserRoleRow> findRoleRowsByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+
+    @Query("select u.id as userId, r.name as name from User u join u.roles r")
+    List<UserRoleRow> findAllRoleRows();
+
 }
@@ -0,0 +1,13 @@
+package cl.ejercicio.java.repository;
+
+import java.util.UUID;
+
+/**
+ * Proyección de un rol asignado a un usuario.
+ */
+public interface UserRoleRow {
+
+    UUID getUserId();
+
+    String getName();
+}
@@ -0,0 +1,26 @@
+package cl.ejercicio.java.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Proyección con las columnas escalares de un usuario, sin sus colecciones.
+ */
+public interface UserRow {
+
+    UUID getId();
+
+    String getName();
+
+    String getEmail();
+
+    LocalDateTime getCreated();
+
+    LocalDateTime getModified();
+
+    LocalDateTime getLastLogin();
+
+    boolean isActive();
+
+    Long getVersion();
+}
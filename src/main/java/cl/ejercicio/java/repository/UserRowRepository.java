@@ -0,0 +1,26 @@
+package cl.ejercicio.java.repository;
+
+import cl.ejercicio.java.dto.UserField;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Consultas de proyección dinámica sobre {@code users}: solo se seleccionan las columnas
+ * de los campos solicitados (más {@code id}, {@code email} y {@code version}, siempre necesarios).
+ */
+public interface UserRowRepository {
+
+    /**
+     * Busca usuarios por email y/o id proyectando solo los campos indicados.
+     * Si ambos filtros son null se devuelven todos los usuarios.
+     *
+     * @param fields campos a proyectar
+     * @param emails emails a buscar, o null
+     * @param ids ids a buscar, o null
+     * @return filas con los campos no solicitados en null
+     */
+    List<UserRow> findRows(Set<UserField> fields, Collection<String> emails, Collection<UUID> ids);
+}
@@ -0,0 +1,128 @@
+package cl.ejercicio.java.repository;
+
+import cl.ejercicio.java.dto.UserField;
+import cl.ejercicio.java.entity.User;
+import cl.ejercicio.java.entity.User_;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Implementación de {@link UserRowRepository} con Criteria API y tuplas.
+ */
+class UserRowRepositoryImpl implements UserRowRepository {
+
+    /** Columnas que se proyectan siempre: identifican la fila y permiten cruzarla con la solicitud. */
+    private static final Set<UserField> KEY_FIELDS = EnumSet.of(UserField.ID, UserField.EMAIL);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /** {@inheritDoc} */
+    @Override
+    public List<UserRow> findRows(Set<UserField> fields, Collection<String> emails, Collection<UUID> ids) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<User> user = query.from(User.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(user.get(User_.ID).alias(User_.ID));
+        selections.add(user.get(User_.EMAIL).alias(User_.EMAIL));
+        selections.add(user.get(User_.VERSION).alias(User_.VERSION));
+        for (UserField field : fields) {
+            if (field.getAttribute() != null && !KEY_FIELDS.contains(field)) {
+                selections.add(user.get(field.getAttribute()).alias(field.getAttribute()));
+            }
+        }
+        query.multiselect(selections);
+
+        List<Predicate> filters = new ArrayList<>();
+        if (emails != null && !emails.isEmpty()) {
+            filters.add(user.get(User_.EMAIL).in(emails));
+        }
+        if (ids != null && !ids.isEmpty()) {
+            filters.add(user.get(User_.ID).in(ids));
+        }
+        if (emails != null || ids != null) {
+            if (filters.isEmpty()) {
+                return List.of();
+            }
+            query.where(cb.or(filters.toArray(Predicate[]::new)));
+        }
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(tuple -> (UserRow) new TupleUserRow(tuple, fields))
+                .toList();
+    }
+
+    /**
+     * Fila construida a partir de una tupla; los campos no proyectados quedan en null.
+     */
+    private record TupleUserRow(UUID id, Long version, String name, String email, LocalDateTime created,
+                                LocalDateTime modified, LocalDateTime lastLogin, boolean active) implements UserRow {
+
+        private TupleUserRow(Tuple tuple, Set<UserField> fields) {
+            this(tuple.get(User_.ID, UUID.class),
+                    tuple.get(User_.VERSION, Long.class),
+                    fields.contains(UserField.NAME) ? tuple.get(User_.NAME, String.class) : null,
+                    tuple.get(User_.EMAIL, String.class),
+                    fields.contains(UserField.CREATED) ? tuple.get(User_.CREATED, LocalDateTime.class) : null,
+                    fields.contains(UserField.MODIFIED) ? tuple.get(User_.MODIFIED, LocalDateTime.class) : null,
+                    fields.contains(UserField.LAST_LOGIN) ? tuple.get(User_.LAST_LOGIN, LocalDateTime.class) : null,
+                    fields.contains(UserField.ACTIVE) && tuple.get(User_.IS_ACTIVE, Boolean.class));
+        }
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getEmail() {
+            return email;
+        }
+
+        @Override
+        public LocalDateTime getCreated() {
+            return created;
+        }
+
+        @Override
+        public LocalDateTime getModified() {
+            return modified;
+        }
+
+        @Override
+        public LocalDateTime getLastLogin() {
+            return lastLogin;
+        }
+
+        @Override
+        public boolean isActive() {
+            return active;
+        }
+
+        @Override
+        public Long getVersion() {
+            return version;
+        }
+    }
+}
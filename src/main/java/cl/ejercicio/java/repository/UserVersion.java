@@ -0,0 +1,14 @@
+package cl.ejercicio.java.repository;
+
+import java.util.UUID;
+
+/**
+ * Proyección liviana con el identificador y la versión de un usuario,
+ * usada para validar ETags sin cargar la entidad ni sus colecciones.
+ */
+public interface UserVersion {
+
+    UUID getId();
+
+    Long getVersion();
+}
@@ -0,0 +1,39 @@
+package cl.ejercicio.java.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO para la consulta masiva de usuarios por email y/o id.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBatchRequestDto implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /** Máximo de claves (emails + ids) por solicitud. */
+    public static final int MAX_KEYS = 100;
+
+    @Size(max = MAX_KEYS, message = "Máximo " + MAX_KEYS + " emails por solicitud")
+    @Schema(description = "Emails de los usuarios a buscar", example = "[\"luna@email.com\", \"admin@admin.com\"]")
+    private List<@NotBlank String> emails;
+
+    @Size(max = MAX_KEYS, message = "Máximo " + MAX_KEYS + " ids por solicitud")
+    @Schema(description = "Ids de los usuarios a buscar", example = "[\"b2c2fcd4-d84d-49cd-9185-e93535db30d5\"]")
+    private List<@NotNull UUID> ids;
+}
@@ -0,0 +1,31 @@
+package cl.ejercicio.java.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resultado de una consulta masiva de usuarios.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBatchResponseDto implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Schema(description = "Usuarios encontrados, indexados por el email o id solicitado")
+    private Map<String, UserResponseDto> users;
+
+    @Schema(description = "Emails o ids solicitados que no existen")
+    private List<String> missing;
+}
@@ -1,6 +1,8 @@
 package cl.ejercicio.java.response;
 
 import cl.ejercicio.java.dto.PhoneDto;
+import cl.ejercicio.java.dto.UserField;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -19,6 +21,7 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(UserField.FILTER_ID)
 public class UserResponseDto implements Serializable {
 
     @Serial
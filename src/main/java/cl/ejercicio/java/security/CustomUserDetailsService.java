@@ -1,6 +1,9 @@
 package cl.ejercicio.java.security;
 
 import cl.ejercicio.java.entity.User;
+import cl.ejercicio.java.metrics.RequestEndpoint;
+import cl.ejercicio.java.metrics.ServerTiming;
+import cl.ejercicio.java.monitoring.jfr.UserDetailsLoadEvent;
 import cl.ejercicio.java.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +27,26 @@ public class CustomUserDetailsService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        long start = System.nanoTime();
+        UserDetailsLoadEvent event = new UserDetailsLoadEvent();
+        event.begin();
+        UserDetails userDetails = null;
+        try {
+            userDetails = loadUser(email);
+            return userDetails;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.endpoint = RequestEndpoint.currentLabel();
+                event.found = userDetails != null;
+                event.roles = userDetails != null ? userDetails.getAuthorities().size() : 0;
+                event.commit();
+            }
+            ServerTiming.add(ServerTiming.USER_DETAILS, System.nanoTime() - start);
+        }
+    }
+
+    private UserDetails loadUser(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado con email: " + email));
 
@@ -18,20 +18,24 @@ public final class SecurityConstants {
 
     /** Endpoints públicos de autenticación */
     public static final List<String> AUTH_ENDPOINTS = List.of(
-            "/api/v1/auth/**"
+            "/api/v1/auth/login",
+            "/api/v1/auth/register"
     );
     /** Endpoints que requieren autenticación y están restringidos a ROLE_USER o ROLE_ADMIN */
     public static final List<String> USER_PUBLIC_ENDPOINTS = List.of(
             "/api/v1/users/getUser/**",
-            "/api/v1/users/getAllUsers"
+            "/api/v1/users/getAllUsers",
+            "/api/v1/users/batch"
     );
 
-    /** Endpoints que requieren autenticación y están restringidos a ROLE_ADMIN */
+    /** Endpoints que requieren autenticación y están restringidos a ROLE_ADMIN (incluida la introspección de tokens para gateways) */
     public static final List<String> ADMIN_PRIVATE_ENDPOINTS = List.of(
+            "/api/v1/auth/introspect",
             "/api/v1/users/create",
             "/api/v1/users/update/**",
             "/api/v1/users/updateEmail/**",
-            "/api/v1/users/delete/**"
+            "/api/v1/users/delete/**",
+            "/actuator/**"
     );
 
     /** Endpoints públicos para Swagger con springdoc-openapi v2 */
@@ -41,6 +45,11 @@ public final class SecurityConstants {
             "/swagger-ui.html"
     );
 
+    /** Endpoints de Actuator abiertos a las sondas de salud; el resto, incluido Prometheus, es ROLE_ADMIN */
+    public static final List<String> ACTUATOR_PUBLIC_ENDPOINTS = List.of(
+            "/actuator/health/**"
+    );
+
     /** Endpoints públicos para la consola H2 (opcional, si la usas) */
     public static final List<String> H2_CONSOLE_ENDPOINTS = List.of(
             "/h2-console/**"
@@ -52,6 +61,7 @@ public final class SecurityConstants {
                     AUTH_ENDPOINTS,
                     SWAGGER_ENDPOINTS,
                     H2_CONSOLE_ENDPOINTS,
+                    ACTUATOR_PUBLIC_ENDPOINTS,
                     MISC_ENDPOINTS
             ).flatMap(List::stream).toList()
     );
@@ -8,6 +8,9 @@ import cl.ejercicio.java.request.UserCreateRequestDto;
 import cl.ejercicio.java.response.ResponseDto;
 import cl.ejercicio.java.security.auth.dto.AuthResponseDto;
 import cl.ejercicio.java.security.auth.dto.LoginRequestDto;
+import cl.ejercicio.java.security.auth.dto.TokenIntrospectionDto;
+import cl.ejercicio.java.security.auth.dto.TokenIntrospectionRequestDto;
+import cl.ejercicio.java.security.jwt.TokenIntrospectionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -16,11 +19,17 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
 /**
  * Controlador REST que gestiona las operaciones de autenticación del sistema.
  * <p>
@@ -51,6 +60,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final TokenIntrospectionService tokenIntrospectionService;
 
     /**
      * Inicia sesión con las credenciales del usuario.
@@ -103,4 +113,37 @@ public class AuthController {
         AuthResponseDto response = authService.register(userCreateRequestDto);
         return new ResponseDto<>("Registro exitoso", response);
     }
+
+    /**
+     * Verifica un lote de tokens JWT (firmas en paralelo), para que un gateway valide una sola vez
+     * y reutilice el resultado.
+     * <p>Por cada token informa subject, roles, expiración y si fue revocado (usuario eliminado
+     * o inactivo). {@code Cache-Control: max-age} corresponde a la vigencia restante más corta
+     * entre los tokens activos; si ninguno está activo la respuesta no debe almacenarse.</p>
+     * <p>Solo para gateways: requiere un token de ROLE_ADMIN.</p>
+     *
+     * @param requestDto tokens a verificar (máximo {@value TokenIntrospectionRequestDto#MAX_TOKENS})
+     * @return resultados en el mismo orden que los tokens recibidos
+     */
+    @Operation(summary = "Verifica tokens", description = "Verifica en lote firma, expiración y revocación de tokens JWT.")
+    @ApiResponse(responseCode = "200", description = "Tokens verificados", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDto.class)))
+    @ApiResponse(responseCode = "400", description = "Datos inválidos (lista vacía o demasiados tokens)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "401", description = "No autenticado", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "403", description = "Acceso prohibido (requiere ROLE_ADMIN)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "500", description = "Error inesperado en el servidor", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    @PostMapping("/introspect")
+    public ResponseEntity<ResponseDto<List<TokenIntrospectionDto>>> introspect(@Valid @RequestBody TokenIntrospectionRequestDto requestDto) {
+        List<TokenIntrospectionDto> results = tokenIntrospectionService.introspectAll(requestDto.getTokens());
+        OptionalLong shortestLifetime = results.stream()
+                .filter(TokenIntrospectionDto::isActive)
+                .mapToLong(TokenIntrospectionDto::getExpiresIn)
+                .min();
+        CacheControl cacheControl = shortestLifetime.isPresent()
+                ? CacheControl.maxAge(Duration.ofSeconds(shortestLifetime.getAsLong())).cachePrivate()
+                : CacheControl.noStore();
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .body(new ResponseDto<>("Tokens verificados", results));
+    }
 }
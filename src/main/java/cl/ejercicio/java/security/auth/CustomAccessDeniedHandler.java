@@ -1,7 +1,6 @@
 package cl.ejercicio.java.security.auth;
 
-import cl.ejercicio.java.exception.ErrorResponse;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import cl.ejercicio.java.config.ContentFormats;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -12,8 +11,6 @@ import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.util.Collections;
 
 /**
  * Manejador personalizado para errores de autorización (403 Forbidden).
@@ -23,7 +20,7 @@ import java.util.Collections;
 @RequiredArgsConstructor
 public class CustomAccessDeniedHandler implements AccessDeniedHandler {
 
-    private final ObjectMapper objectMapper;
+    private final ContentFormats contentFormats;
 
     @Override
     public void handle(HttpServletRequest request,
@@ -33,14 +30,7 @@ public class CustomAccessDeniedHandler implements AccessDeniedHandler {
 
         log.warn("Acceso prohibido: {}", accessDeniedException.getMessage());
 
-        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-        response.setContentType("application/json");
-
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .errors(Collections.singletonList("No tiene permisos para realizar esta acción."))
-                .timestamp(LocalDateTime.now())
-                .build();
-
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        contentFormats.writeError(request, response, HttpServletResponse.SC_FORBIDDEN,
+                "No tiene permisos para realizar esta acción.");
     }
 }
@@ -1,7 +1,6 @@
 package cl.ejercicio.java.security.auth;
 
-import cl.ejercicio.java.exception.ErrorResponse;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import cl.ejercicio.java.config.ContentFormats;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -12,8 +11,6 @@ import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.util.Collections;
 
 /**
  * Manejador personalizado para errores de autenticación (401 Unauthorized).
@@ -23,7 +20,7 @@ import java.util.Collections;
 @RequiredArgsConstructor
 public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
-    private final ObjectMapper objectMapper;
+    private final ContentFormats contentFormats;
 
     @Override
     public void commence(HttpServletRequest request,
@@ -33,14 +30,7 @@ public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint
 
         log.warn("Intento de acceso no autorizado: {}", authException.getMessage());
 
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        response.setContentType("application/json");
-
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .errors(Collections.singletonList("No esta autorizado para acceder a este recurso."))
-                .timestamp(LocalDateTime.now())
-                .build();
-
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        contentFormats.writeError(request, response, HttpServletResponse.SC_UNAUTHORIZED,
+                "No esta autorizado para acceder a este recurso.");
     }
 }
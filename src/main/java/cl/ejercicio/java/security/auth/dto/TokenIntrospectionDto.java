@@ -0,0 +1,48 @@
+package cl.ejercicio.java.security.auth.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO con el resultado de verificar un token JWT.
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Resultado de la verificación de un token")
+public class TokenIntrospectionDto implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Schema(description = "Indica si el token es válido y no está revocado")
+    private boolean active;
+
+    @Schema(description = "Email del usuario (subject)", example = "user@example.com")
+    private String subject;
+
+    @Schema(description = "Roles contenidos en el token", example = "[\"ROLE_USER\"]")
+    private List<String> roles;
+
+    @Schema(description = "Fecha de expiración del token")
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime expiresAt;
+
+    @Schema(description = "Segundos de vigencia restantes", example = "3599")
+    private Long expiresIn;
+
+    @Schema(description = "Indica si el usuario del token fue eliminado o desactivado")
+    private boolean revoked;
+
+    @Schema(description = "Motivo por el que el token no es válido: malformed, signature, expired, claims, "
+            + "user_not_found o user_inactive", example = "expired")
+    private String error;
+}
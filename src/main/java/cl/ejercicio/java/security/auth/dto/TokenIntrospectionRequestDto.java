@@ -0,0 +1,34 @@
+package cl.ejercicio.java.security.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * DTO con los tokens a verificar en una introspección por lotes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Tokens JWT a verificar")
+public class TokenIntrospectionRequestDto implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /** Máximo de tokens por solicitud. */
+    public static final int MAX_TOKENS = 100;
+
+    @NotEmpty(message = "Debe indicar al menos un token")
+    @Size(max = MAX_TOKENS, message = "Máximo " + MAX_TOKENS + " tokens por solicitud")
+    @Schema(description = "Tokens a verificar, sin el prefijo Bearer", example = "[\"eyJhbGciOiJIUzI1NiJ9...\"]")
+    private List<@NotBlank String> tokens;
+}
@@ -1,10 +1,12 @@
 package cl.ejercicio.java.security.auth.dto.impl;
 
 
+import cl.ejercicio.java.cache.UserChangedEvent;
 import cl.ejercicio.java.dto.PhoneDto;
 import cl.ejercicio.java.entity.Phone;
 import cl.ejercicio.java.entity.Role;
 import cl.ejercicio.java.entity.User;
+import cl.ejercicio.java.id.UserIdGenerator;
 import cl.ejercicio.java.mapper.PhoneMapper;
 import cl.ejercicio.java.repository.RoleRepository;
 import cl.ejercicio.java.repository.UserRepository;
@@ -13,13 +15,15 @@ import cl.ejercicio.java.security.auth.AuthService;
 import cl.ejercicio.java.security.auth.dto.AuthResponseDto;
 import cl.ejercicio.java.security.auth.dto.LoginRequestDto;
 import cl.ejercicio.java.security.jwt.JwtService;
+import cl.ejercicio.java.service.UserRegistrationPipeline;
+import cl.ejercicio.java.service.UserWriteLanes;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -39,81 +43,124 @@ public class AuthServiceImpl implements AuthService {
     private final JwtService jwtService;
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final UserIdGenerator userIdGenerator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserRegistrationPipeline registrationPipeline;
+    private final UserWriteLanes writeLanes;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * {@inheritDoc}
+     * <p>La verificación de la contraseña ocurre fuera de la transacción; la actualización de
+     * {@code lastLogin} y del token se ejecuta en el turno del usuario ({@link UserWriteLanes}),
+     * reintentando si otra escritura la modificó en paralelo.</p>
      */
     @Override
-    @Transactional
     public AuthResponseDto login(LoginRequestDto loginDto) {
         log.info("Iniciando login para: {}", loginDto.getEmail());
 
         authenticateUser(loginDto.getEmail(), loginDto.getPassword());
 
-        User user = userRepository.findByEmail(loginDto.getEmail())
-                .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado: " + loginDto.getEmail()));
+        return writeLanes.write(loginDto.getEmail(), () -> {
+            User user = userRepository.findByEmail(loginDto.getEmail())
+                    .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado: " + loginDto.getEmail()));
+
+            Set<String> roleNames = user.getRoles().stream()
+                    .map(Role::getName)
+                    .collect(Collectors.toSet());
+
+            String token = jwtService.generateToken(user.getEmail(), roleNames);
+
+            LocalDateTime now = LocalDateTime.now();
+            user.setLastLogin(now);
+            user.setModified(now);
+            user.setToken(token);
+
+            userRepository.save(user);
+            eventPublisher.publishEvent(new UserChangedEvent(user.getEmail()));
+
+            List<PhoneDto> phoneDtos = PhoneMapper.mapPhonesToPhoneDtos(user.getPhones());
+            return AuthResponseDto.builder()
+                    .id(user.getId())
+                    .name(user.getName())
+                    .email(user.getEmail())
+                    .roles(roleNames)
+                    .token(token)
+                    .phones(phoneDtos)
+                    .build();
+        });
+    }
 
-        Set<String> roleNames = user.getRoles().stream()
-                .map(Role::getName)
-                .collect(Collectors.toSet());
+    /**
+     * {@inheritDoc}
+     * <p>El hash de la contraseña, la verificación del email, la resolución de roles y la emisión del
+     * token se ejecutan en paralelo ({@link UserRegistrationPipeline}); solo el insert ocurre dentro
+     * de la transacción.</p>
+     */
+    @Override
+    public AuthResponseDto register(UserCreateRequestDto requestDto) {
+        log.info("Registrando usuario: {}", requestDto.getEmail());
 
-        String token = jwtService.generateToken(user.getEmail(), roleNames);
+        UserRegistrationPipeline.Prepared prepared = registrationPipeline.prepare(
+                requestDto.getEmail(),
+                requestDto.getPassword(),
+                () -> new IllegalArgumentException("El email ya está registrado: " + requestDto.getEmail()),
+                () -> resolveRoles(requestDto.getRoles()),
+                () -> jwtService.generateToken(requestDto.getEmail(), requestDto.getRoles()));
 
-        LocalDateTime now = LocalDateTime.now();
-        user.setLastLogin(now);
-        user.setModified(now);
-        user.setToken(token);
+        User userSave = transactionTemplate.execute(status -> persistNewUser(requestDto, prepared));
 
-        userRepository.save(user);
+        // Mapear los teléfonos al DTO usando PhoneMapper
+        List<PhoneDto> phoneDtos = PhoneMapper.mapPhonesToPhoneDtos(userSave.getPhones());
 
-        List<PhoneDto> phoneDtos = PhoneMapper.mapPhonesToPhoneDtos(user.getPhones());
         return AuthResponseDto.builder()
-                .id(user.getId())
-                .name(user.getName())
-                .email(user.getEmail())
-                .roles(roleNames)
-                .token(token)
+                .id(userSave.getId())
+                .name(userSave.getName())
+                .email(userSave.getEmail())
+                .roles(requestDto.getRoles())
+                .token(prepared.token())
                 .phones(phoneDtos)
                 .build();
     }
 
     /**
-     * {@inheritDoc}
+     * Obtiene las entidades de los roles especificados en el DTO.
+     *
+     * @param roleNames nombres de los roles
+     * @return roles encontrados
      */
-    @Override
-    @Transactional
-    public AuthResponseDto register(UserCreateRequestDto requestDto) {
-        log.info("Registrando usuario: {}", requestDto.getEmail());
-
-        // Verificar si el email ya existe
-        if (userRepository.existsByEmail(requestDto.getEmail())) {
-            throw new IllegalArgumentException("El email ya está registrado: " + requestDto.getEmail());
-        }
-        // Obtener los roles especificados en el DTO
-        Set<Role> roles = requestDto.getRoles().stream()
+    private Set<Role> resolveRoles(Set<String> roleNames) {
+        return roleNames.stream()
                 .map(roleName -> roleRepository.findByName(roleName)
                         .orElseThrow(() -> new IllegalStateException("Rol no encontrado: " + roleName)))
                 .collect(Collectors.toSet());
-        // Crear la entidad User sin los teléfonos inicialmente
+    }
+
+    /**
+     * Construye y guarda el usuario con los datos ya preparados.
+     *
+     * @param requestDto datos del registro
+     * @param prepared   hash, roles y token
+     * @return usuario persistido
+     */
+    private User persistNewUser(UserCreateRequestDto requestDto, UserRegistrationPipeline.Prepared prepared) {
         LocalDateTime now = LocalDateTime.now();
-        String token = jwtService.generateToken(requestDto.getEmail(), requestDto.getRoles());
 
         // Aseguramos que el ID se genere explícitamente
-        UUID userId = UUID.randomUUID();
+        UUID userId = userIdGenerator.nextId();
         log.info("ID generado para el usuario: {}", userId);
 
         User user = User.builder()
                 .id(userId)
                 .name(requestDto.getName())
                 .email(requestDto.getEmail())
-                .password(passwordEncoder.encode(requestDto.getPassword()))
+                .password(prepared.passwordHash())
                 .created(now)
                 .modified(now)
                 .lastLogin(now)
                 .isActive(true)
-                .roles(roles)
-                .token(token)
+                .roles(prepared.roles())
+                .token(prepared.token())
                 .build();
 
         // Mapear los PhoneDto a entidades Phone y asignar el User
@@ -124,19 +171,9 @@ public class AuthServiceImpl implements AuthService {
 
         user.setPhones(phones);
         // Guardar el usuario y capturar la entidad persistida
-        User userSave = userRepository.save(user); // Reasignamos el resultado de save
-
-        // Mapear los teléfonos al DTO usando PhoneMapper
-        List<PhoneDto> phoneDtos = PhoneMapper.mapPhonesToPhoneDtos(userSave.getPhones());
-
-        return AuthResponseDto.builder()
-                .id(user.getId())
-                .name(user.getName())
-                .email(user.getEmail())
-                .roles(requestDto.getRoles())
-                .token(token)
-                .phones(phoneDtos)
-                .build();
+        User userSave = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(userSave.getEmail()));
+        return userSave;
     }
 
     /**
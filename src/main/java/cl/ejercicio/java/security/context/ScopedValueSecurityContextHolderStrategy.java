@@ -0,0 +1,110 @@
+package cl.ejercicio.java.security.context;
+
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * {@link SecurityContextHolderStrategy} respaldada por un {@link ScopedValue} (preview en Java 21).
+ * <p>Cada solicitud se ejecuta dentro de {@link #callWithNewScope(Callable)}, que enlaza un
+ * {@link Slot} mutable solo durante la cadena de filtros: no queda estado en el {@code ThreadLocalMap}
+ * del hilo (virtual) ni hay que limpiarlo al terminar. Las subtareas de un
+ * {@code StructuredTaskScope} heredan el mismo enlace, por lo que ven el contexto de la solicitud
+ * sin copiarlo.</p>
+ * <p>Fuera de un ámbito enlazado (arranque, tareas programadas, gRPC) se usa un {@link ThreadLocal}
+ * de respaldo, con la misma semántica que la estrategia por defecto de Spring Security.</p>
+ */
+public final class ScopedValueSecurityContextHolderStrategy implements SecurityContextHolderStrategy {
+
+    private static final ScopedValue<Slot> SLOT = ScopedValue.newInstance();
+
+    private static final ThreadLocal<Supplier<SecurityContext>> FALLBACK = new ThreadLocal<>();
+
+    /**
+     * Ejecuta {@code operation} con un contexto de seguridad propio y vacío.
+     *
+     * @param operation operación a ejecutar (normalmente el resto de la cadena de filtros)
+     * @param <T>       tipo del resultado
+     * @return el resultado de {@code operation}
+     * @throws Exception la excepción lanzada por {@code operation}
+     */
+    public static <T> T callWithNewScope(Callable<T> operation) throws Exception {
+        return ScopedValue.where(SLOT, new Slot()).call(operation);
+    }
+
+    /**
+     * @return true si el hilo actual está dentro de un ámbito enlazado por {@link #callWithNewScope(Callable)}
+     */
+    public static boolean isBound() {
+        return SLOT.isBound();
+    }
+
+    @Override
+    public void clearContext() {
+        if (SLOT.isBound()) {
+            SLOT.get().deferred = null;
+        } else {
+            FALLBACK.remove();
+        }
+    }
+
+    @Override
+    public SecurityContext getContext() {
+        return getDeferredContext().get();
+    }
+
+    @Override
+    public Supplier<SecurityContext> getDeferredContext() {
+        Supplier<SecurityContext> result = current();
+        if (result == null) {
+            SecurityContext context = createEmptyContext();
+            result = () -> context;
+            store(result);
+        }
+        return result;
+    }
+
+    @Override
+    public void setContext(SecurityContext context) {
+        Assert.notNull(context, "Only non-null SecurityContext instances are permitted");
+        store(() -> context);
+    }
+
+    @Override
+    public void setDeferredContext(Supplier<SecurityContext> deferredContext) {
+        Assert.notNull(deferredContext, "Only non-null Supplier instances are permitted");
+        store(() -> {
+            SecurityContext context = deferredContext.get();
+            Assert.notNull(context, "A Supplier<SecurityContext> returned null and is not allowed.");
+            return context;
+        });
+    }
+
+    @Override
+    public SecurityContext createEmptyContext() {
+        return new SecurityContextImpl();
+    }
+
+    private static Supplier<SecurityContext> current() {
+        return SLOT.isBound() ? SLOT.get().deferred : FALLBACK.get();
+    }
+
+    private static void store(Supplier<SecurityContext> deferred) {
+        if (SLOT.isBound()) {
+            SLOT.get().deferred = deferred;
+        } else {
+            FALLBACK.set(deferred);
+        }
+    }
+
+    /**
+     * Contenedor del contexto de una solicitud; compartido (no copiado) con sus subtareas estructuradas.
+     */
+    private static final class Slot {
+        private volatile Supplier<SecurityContext> deferred;
+    }
+}
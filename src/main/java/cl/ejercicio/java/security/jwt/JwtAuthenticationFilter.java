@@ -1,6 +1,7 @@
 package cl.ejercicio.java.security.jwt;
 
 import cl.ejercicio.java.security.CustomUserDetailsService;
+import cl.ejercicio.java.security.SecurityConstants;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -43,11 +44,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      */
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String path = request.getServletPath();
-        // Solo excluye endpoints públicos específicos
-        return path.startsWith("/api/v1/auth") ||
-                (path.startsWith("/api/v1/users") &&
-                        request.getMethod().equals("GET"));
+        // Solo excluye login y registro; la introspección de tokens exige un JWT de administrador
+        return SecurityConstants.AUTH_ENDPOINTS.contains(request.getServletPath());
     }
 
     /**
@@ -64,28 +62,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     HttpServletResponse response,
                                     FilterChain filterChain)
             throws ServletException, IOException {
-        log.info("Procesando solicitud en JwtAuthenticationFilter: {}", request.getRequestURI());
-
         String authHeader = request.getHeader("Authorization");
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            log.info("Encabezado Authorization encontrado: {}", authHeader);
             String jwt = authHeader.substring(7);
             String username = jwtService.getUsernameFromToken(jwt);
 
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                log.info("Usuario encontrado en token: {}", username);
+                log.debug("Usuario encontrado en token: {}", username);
                 UserDetails userDetails = userDetailsService.loadUserByUsername(username);
                 if (jwtService.isTokenValid(jwt, userDetails)) {
-                    log.info("Token válido, configurando contexto de seguridad");
+                    log.debug("Token válido, configurando contexto de seguridad");
                     setAuthenticationContext(request, userDetails, jwt);
                 } else {
                     log.warn("Token inválido para usuario: {}", username);
                 }
             } else {
-                log.warn("No se encontró usuario o ya hay autenticación: {}", username);
+                log.debug("No se encontró usuario o ya hay autenticación: {}", username);
             }
         } else {
-            log.warn("No se encontró encabezado Authorization o no comienza con Bearer");
+            log.debug("No se encontró encabezado Authorization o no comienza con Bearer");
         }
 
         filterChain.doFilter(request, response);
@@ -111,7 +106,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toList());
 
-        log.info("Autoridades asignadas desde el token: {}", authorities.stream().map(GrantedAuthority::getAuthority).toList());
+        if (log.isDebugEnabled()) {
+            log.debug("Autoridades asignadas desde el token: {}", authorities.stream().map(GrantedAuthority::getAuthority).toList());
+        }
 
         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                 userDetails,
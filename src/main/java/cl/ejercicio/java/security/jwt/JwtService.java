@@ -1,14 +1,19 @@
 package cl.ejercicio.java.security.jwt;
 
 import cl.ejercicio.java.config.JwtProperties;
+import cl.ejercicio.java.metrics.OperationMetrics;
+import cl.ejercicio.java.metrics.RequestEndpoint;
+import cl.ejercicio.java.metrics.ServerTiming;
+import cl.ejercicio.java.monitoring.jfr.JwtVerificationEvent;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Tags;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
@@ -16,12 +21,17 @@ import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.*;
 
-@Slf4j
 @Service
 @RequiredArgsConstructor
 public class JwtService {
 
+    /** Timer de {@link #validateAndParseToken(String)}, con {@code outcome} SUCCESS, EXPIRED o INVALID. */
+    static final String VALIDATION_METRIC = "jwt.validation";
+    static final String OUTCOME_EXPIRED = "EXPIRED";
+    static final String OUTCOME_INVALID = "INVALID";
+
     private final JwtProperties jwtProperties;
+    private final OperationMetrics operationMetrics;
     private Key secretKey;
 
     /**
@@ -71,7 +81,6 @@ public class JwtService {
      * @throws JwtException si el token es inválido o expirado
      */
     public String getUsernameFromToken(String token) {
-        log.info("Extrayendo username del token: {}", token);
         return validateAndParseToken(token).getSubject();
     }
 
@@ -83,8 +92,17 @@ public class JwtService {
      * @throws JwtException si el token es inválido o expirado
      */
     public List<String> getRolesFromToken(String token) {
-        log.info("Extrayendo roles del token: {}", token);
-        Object rolesObj = validateAndParseToken(token).get("roles");
+        return getRolesFromClaims(validateAndParseToken(token));
+    }
+
+    /**
+     * Extrae los roles desde claims ya validados, sin volver a verificar la firma.
+     *
+     * @param claims claims de un JWT validado
+     * @return Lista de roles
+     */
+    public List<String> getRolesFromClaims(Claims claims) {
+        Object rolesObj = claims.get("roles");
 
         if (rolesObj instanceof List<?>) {
             return ((List<?>) rolesObj).stream()
@@ -119,6 +137,29 @@ public class JwtService {
      * @throws JwtException si el token es inválido
      */
     public Claims validateAndParseToken(String token) {
+        long start = System.nanoTime();
+        String outcome = OUTCOME_INVALID;
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        try {
+            Claims claims = parseAndVerify(token);
+            outcome = OperationMetrics.OUTCOME_SUCCESS;
+            return claims;
+        } catch (ExpiredJwtException e) {
+            outcome = OUTCOME_EXPIRED;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.endpoint = RequestEndpoint.currentLabel();
+                event.outcome = outcome;
+                event.commit();
+            }
+            operationMetrics.record(VALIDATION_METRIC, ServerTiming.JWT, Tags.of("outcome", outcome), OperationMetrics.since(start));
+        }
+    }
+
+    private Claims parseAndVerify(String token) {
         Claims claims = Jwts.parserBuilder()
                 .setSigningKey(secretKey)
                 .build()
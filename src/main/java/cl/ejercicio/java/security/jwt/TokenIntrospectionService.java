@@ -0,0 +1,193 @@
+package cl.ejercicio.java.security.jwt;
+
+import cl.ejercicio.java.deadline.RequestDeadline;
+import cl.ejercicio.java.exception.DeadlineExceededException;
+import cl.ejercicio.java.repository.UserActiveRow;
+import cl.ejercicio.java.repository.UserRepository;
+import cl.ejercicio.java.security.auth.dto.TokenIntrospectionDto;
+import io.jsonwebtoken.ClaimJwtException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SecurityException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Verifica tokens JWT para otros servicios: firma, issuer, audience y expiración con {@link JwtService},
+ * y revocación consultando solo el estado del usuario (sin cargar la entidad ni sus roles).
+ * <p>El motivo de rechazo es siempre uno de los códigos {@code REASON_*}: el texto de las excepciones
+ * de jjwt puede incluir contenido decodificado del token recibido y no se devuelve.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenIntrospectionService {
+
+    /** Token ilegible: estructura, Base64 o JSON inválidos, o tipo de JWT no soportado. */
+    public static final String REASON_MALFORMED = "malformed";
+    /** Firma que no corresponde a la clave del servicio. */
+    public static final String REASON_SIGNATURE = "signature";
+    /** Token expirado. */
+    public static final String REASON_EXPIRED = "expired";
+    /** Issuer, audience u otro claim no válido. */
+    public static final String REASON_CLAIMS = "claims";
+    /** Token válido de un usuario que ya no existe. */
+    public static final String REASON_USER_NOT_FOUND = "user_not_found";
+    /** Token válido de un usuario desactivado. */
+    public static final String REASON_USER_INACTIVE = "user_inactive";
+
+    private final JwtService jwtService;
+    private final UserRepository userRepository;
+
+    /**
+     * Verifica un token.
+     *
+     * @param token JWT a verificar
+     * @return resultado; nunca lanza excepción por tokens inválidos
+     */
+    public TokenIntrospectionDto introspect(String token) {
+        Verification verification = verify(token);
+        if (verification.claims() == null) {
+            return verification.rejected();
+        }
+        return build(verification.claims(), userRepository.findActiveByEmail(verification.claims().getSubject()));
+    }
+
+    /**
+     * Verifica varios tokens. Las firmas HMAC se validan en paralelo ({@link #verifyAll}) y el estado
+     * de todos los usuarios involucrados se resuelve con una sola consulta.
+     *
+     * @param tokens JWTs a verificar
+     * @return resultados en el mismo orden que los tokens
+     * @throws DeadlineExceededException si el plazo de la solicitud vence durante la verificación
+     */
+    public List<TokenIntrospectionDto> introspectAll(List<String> tokens) {
+        List<Verification> verifications = verifyAll(tokens);
+
+        List<String> subjects = verifications.stream()
+                .map(Verification::claims)
+                .filter(Objects::nonNull)
+                .map(Claims::getSubject)
+                .distinct()
+                .toList();
+        Map<String, Boolean> activeBySubject = subjects.isEmpty() ? Map.of()
+                : userRepository.findActiveRowsByEmailIn(subjects).stream()
+                .collect(Collectors.toMap(UserActiveRow::getEmail, UserActiveRow::isActive));
+
+        return verifications.stream()
+                .map(verification -> verification.claims() == null ? verification.rejected()
+                        : build(verification.claims(), Optional.ofNullable(activeBySubject.get(verification.claims().getSubject()))))
+                .toList();
+    }
+
+    /**
+     * Verifica las firmas repartiendo los tokens en tramos contiguos, uno por procesador, bifurcados
+     * con {@link StructuredTaskScope} (preview en Java 21). Las subtareas heredan los valores por
+     * solicitud del hilo que las crea (plazo, endpoint, contexto de seguridad); un solo tramo se
+     * verifica en el hilo de la solicitud.
+     */
+    private List<Verification> verifyAll(List<String> tokens) {
+        int parallelism = Math.min(tokens.size(), Runtime.getRuntime().availableProcessors());
+        if (parallelism <= 1) {
+            return tokens.stream().map(this::verify).toList();
+        }
+        int chunkSize = Math.ceilDiv(tokens.size(), parallelism);
+        try (var scope = new StructuredTaskScope.ShutdownOnFailure()) {
+            List<Subtask<List<Verification>>> chunks = new ArrayList<>(parallelism);
+            for (int from = 0; from < tokens.size(); from += chunkSize) {
+                List<String> chunk = tokens.subList(from, Math.min(from + chunkSize, tokens.size()));
+                chunks.add(scope.fork(() -> chunk.stream().map(this::verify).toList()));
+            }
+
+            Optional<RequestDeadline> deadline = RequestDeadline.current();
+            if (deadline.isPresent()) {
+                scope.joinUntil(deadline.get().toInstant());
+            } else {
+                scope.join();
+            }
+            scope.throwIfFailed(TokenIntrospectionService::unwrap);
+            return chunks.stream()
+                    .flatMap(chunk -> chunk.get().stream())
+                    .toList();
+        } catch (TimeoutException e) {
+            throw new DeadlineExceededException("Plazo agotado verificando " + tokens.size() + " tokens", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Verificación de tokens interrumpida", e);
+        }
+    }
+
+    private Verification verify(String token) {
+        try {
+            return new Verification(jwtService.validateAndParseToken(token), null);
+        } catch (JwtException | IllegalArgumentException e) {
+            String reason = reason(e);
+            log.debug("Token rechazado en introspección: {}", reason);
+            return new Verification(null, TokenIntrospectionDto.builder()
+                    .active(false)
+                    .error(reason)
+                    .build());
+        }
+    }
+
+    private static String reason(RuntimeException e) {
+        return switch (e) {
+            case ExpiredJwtException ignored -> REASON_EXPIRED;
+            case SecurityException ignored -> REASON_SIGNATURE;
+            case ClaimJwtException ignored -> REASON_CLAIMS;
+            case MalformedJwtException ignored -> REASON_MALFORMED;
+            case UnsupportedJwtException ignored -> REASON_MALFORMED;
+            case io.jsonwebtoken.io.IOException ignored -> REASON_MALFORMED;
+            case IllegalArgumentException ignored -> REASON_MALFORMED;
+            // JwtService rechaza issuer y audience con un JwtException genérico
+            default -> REASON_CLAIMS;
+        };
+    }
+
+    private static RuntimeException unwrap(Throwable failure) {
+        if (failure instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        log.error("Fallo inesperado verificando tokens", failure);
+        return new IllegalStateException(failure);
+    }
+
+    private TokenIntrospectionDto build(Claims claims, Optional<Boolean> userActive) {
+        Date expiration = claims.getExpiration();
+        long expiresIn = Math.max(0, (expiration.getTime() - System.currentTimeMillis()) / 1000);
+        boolean revoked = userActive.map(active -> !active).orElse(true);
+
+        return TokenIntrospectionDto.builder()
+                .active(!revoked)
+                .subject(claims.getSubject())
+                .roles(jwtService.getRolesFromClaims(claims))
+                .expiresAt(LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault()))
+                .expiresIn(expiresIn)
+                .revoked(revoked)
+                .error(revoked ? (userActive.isEmpty() ? REASON_USER_NOT_FOUND : REASON_USER_INACTIVE) : null)
+                .build();
+    }
+
+    /**
+     * Resultado de verificar la firma y los claims: los claims si es válido o el rechazo si no.
+     */
+    private record Verification(Claims claims, TokenIntrospectionDto rejected) {
+    }
+}
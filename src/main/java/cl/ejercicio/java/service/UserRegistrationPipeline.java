@@ -0,0 +1,113 @@
+package cl.ejercicio.java.service;
+
+import cl.ejercicio.java.deadline.RequestDeadline;
+import cl.ejercicio.java.entity.Role;
+import cl.ejercicio.java.exception.DeadlineExceededException;
+import cl.ejercicio.java.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Prepara el alta de un usuario ejecutando en paralelo, con {@link StructuredTaskScope} (preview en Java 21),
+ * los pasos independientes previos al insert:
+ * <ul>
+ *     <li>hash BCrypt de la contraseña (CPU);</li>
+ *     <li>verificación de email no registrado (BD);</li>
+ *     <li>resolución de roles (BD);</li>
+ *     <li>emisión del token, si corresponde (CPU).</li>
+ * </ul>
+ * La latencia queda cerca de {@code max(hash, BD)} en vez de su suma. Con {@code ShutdownOnFailure},
+ * el primer error (por ejemplo, email duplicado) interrumpe las demás subtareas; el hash se omite si aún
+ * no había comenzado, pero una vez iniciado BCrypt no atiende interrupciones y el cierre del ámbito espera
+ * a que termine.
+ * <p>Con un plazo de solicitud ({@link RequestDeadline}) la espera se acota a él: al vencer, el ámbito
+ * se cierra y se lanza {@link DeadlineExceededException}.</p>
+ * <p>Debe invocarse fuera de una transacción: cada consulta de las subtareas usa su propia conexión por
+ * un instante, de modo que un alta nunca retiene una conexión mientras espera otra.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserRegistrationPipeline {
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    /**
+     * Resultado de la preparación del alta.
+     *
+     * @param passwordHash contraseña codificada
+     * @param roles        roles resueltos (entidades desacopladas, válidas para la asociación)
+     * @param token        token emitido, o null si no se solicitó
+     */
+    public record Prepared(String passwordHash, Set<Role> roles, String token) {
+    }
+
+    /**
+     * Ejecuta los pasos previos al alta de forma concurrente.
+     *
+     * @param email          email a registrar
+     * @param rawPassword    contraseña en texto plano
+     * @param duplicateEmail excepción a lanzar si el email ya está registrado
+     * @param roleResolver   resolución de los roles solicitados
+     * @param tokenIssuer    emisión del token, o null para omitirla
+     * @return hash, roles y token
+     */
+    public Prepared prepare(String email,
+                            String rawPassword,
+                            Supplier<? extends RuntimeException> duplicateEmail,
+                            Callable<Set<Role>> roleResolver,
+                            Callable<String> tokenIssuer) {
+        try (var scope = new StructuredTaskScope.ShutdownOnFailure()) {
+            Subtask<String> hash = scope.fork(() -> encode(rawPassword));
+            scope.fork(() -> {
+                if (userRepository.existsByEmail(email)) {
+                    throw duplicateEmail.get();
+                }
+                return null;
+            });
+            Subtask<Set<Role>> roles = scope.fork(roleResolver);
+            Subtask<String> token = tokenIssuer != null ? scope.fork(tokenIssuer) : null;
+
+            Optional<RequestDeadline> deadline = RequestDeadline.current();
+            if (deadline.isPresent()) {
+                scope.joinUntil(deadline.get().toInstant());
+            } else {
+                scope.join();
+            }
+            scope.throwIfFailed(UserRegistrationPipeline::unwrap);
+            return new Prepared(hash.get(), roles.get(), token != null ? token.get() : null);
+        } catch (TimeoutException e) {
+            throw new DeadlineExceededException("Plazo agotado preparando el registro de " + email, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Registro interrumpido: " + email, e);
+        }
+    }
+
+    private String encode(String rawPassword) {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Hash cancelado");
+        }
+        return passwordEncoder.encode(rawPassword);
+    }
+
+    private static RuntimeException unwrap(Throwable failure) {
+        if (failure instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        log.error("Fallo inesperado preparando el registro", failure);
+        return new IllegalStateException(failure);
+    }
+}
@@ -1,12 +1,17 @@
 package cl.ejercicio.java.service;
 
 import cl.ejercicio.java.dto.UserEmailDto;
+import cl.ejercicio.java.dto.UserField;
 import cl.ejercicio.java.entity.User;
+import cl.ejercicio.java.repository.UserVersion;
 import cl.ejercicio.java.request.UserCreateRequestDto;
 import cl.ejercicio.java.request.UserUpdateRequestDto;
+import cl.ejercicio.java.response.UserBatchResponseDto;
 import cl.ejercicio.java.response.UserResponseDto;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -55,12 +60,40 @@ public interface UserService {
      */
     UserResponseDto getUser(String email);
 
+    /**
+     * Obtiene un usuario por su email consultando solo las columnas de los campos indicados.
+     *
+     * @param email email del usuario
+     * @param fields campos solicitados
+     * @return el usuario con los campos no solicitados vacíos
+     */
+    UserResponseDto getUser(String email, Set<UserField> fields);
+
+    /**
+     * Obtiene el identificador y la versión de un usuario sin cargar la entidad.
+     *
+     * @param email email del usuario
+     * @return id y versión actuales
+     */
+    UserVersion getUserVersion(String email);
+
+    /**
+     * Obtiene varios usuarios por email y/o id en una sola consulta por tabla.
+     *
+     * @param emails emails a buscar
+     * @param ids ids a buscar
+     * @param fields campos solicitados
+     * @return usuarios encontrados indexados por la clave solicitada y las claves inexistentes
+     */
+    UserBatchResponseDto getUsers(Collection<String> emails, Collection<UUID> ids, Set<UserField> fields);
+
     /**
      * Lista todos los usuarios registrados.
      *
+     * @param fields campos solicitados
      * @return lista de usuarios
      */
-    List<UserResponseDto> getAllUsers();
+    List<UserResponseDto> getAllUsers(Set<UserField> fields);
 
     /**
      * Elimina un usuario por su email.
@@ -0,0 +1,136 @@
+package cl.ejercicio.java.service;
+
+import cl.ejercicio.java.config.UserWriteProperties;
+import cl.ejercicio.java.deadline.RequestDeadline;
+import cl.ejercicio.java.exception.DeadlineExceededException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta las escrituras sobre un usuario en orden, cada una en su propia transacción.
+ * <ul>
+ *     <li>Turnos: las escrituras de un mismo usuario (por email) toman uno de {@code user.write.stripes}
+ *     locks justos, de modo que un login desde la app y una edición desde la web ya no chocan en
+ *     {@code @Version}; usuarios distintos avanzan en paralelo salvo colisión de hash.</li>
+ *     <li>Reintentos: los conflictos que aún ocurran (otra instancia, cambio de email en curso) se
+ *     reintentan en una transacción nueva, hasta {@code user.write.max-attempts} veces, con espera
+ *     exponencial y jitter completo.</li>
+ * </ul>
+ * El trabajo se vuelve a ejecutar completo en cada intento, por lo que debe releer la entidad.
+ * Debe invocarse fuera de una transacción.
+ */
+@Slf4j
+@Component
+public class UserWriteLanes implements MeterBinder {
+
+    private final UserWriteProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ReentrantLock[] lanes;
+
+    private final AtomicLong conflicts = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong exhausted = new AtomicLong();
+
+    public UserWriteLanes(UserWriteProperties properties, TransactionTemplate transactionTemplate) {
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.lanes = new ReentrantLock[properties.getStripes()];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new ReentrantLock(true);
+        }
+    }
+
+    /**
+     * Ejecuta {@code work} en el turno del usuario y dentro de una transacción, reintentando ante conflictos.
+     *
+     * @param email email del usuario a modificar
+     * @param work  escritura a realizar
+     * @param <T>   tipo del resultado
+     * @return el resultado de {@code work}
+     */
+    public <T> T write(String email, Supplier<T> work) {
+        if (!properties.isSerialize()) {
+            return withRetry(email, work);
+        }
+        ReentrantLock lane = laneFor(email);
+        acquire(lane, email);
+        try {
+            return withRetry(email, work);
+        } finally {
+            lane.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "user.write.conflicts", conflicts, "Conflictos de versión al escribir un usuario");
+        counter(registry, "user.write.retries", retries, "Escrituras reintentadas tras un conflicto");
+        counter(registry, "user.write.retries.exhausted", exhausted, "Escrituras que agotaron los reintentos");
+    }
+
+    private <T> T withRetry(String email, Supplier<T> work) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException e) {
+                conflicts.incrementAndGet();
+                if (attempt >= properties.getMaxAttempts()) {
+                    exhausted.incrementAndGet();
+                    log.warn("Conflicto de versión al escribir {} tras {} intentos", email, attempt);
+                    throw e;
+                }
+                retries.incrementAndGet();
+                log.debug("Conflicto de versión al escribir {} (intento {}), reintentando", email, attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private ReentrantLock laneFor(String email) {
+        return lanes[Math.floorMod(email.strip().hashCode(), lanes.length)];
+    }
+
+    private void acquire(ReentrantLock lane, String email) {
+        long waitMillis = RequestDeadline.boundMillis(properties.getLaneTimeout().toMillis());
+        try {
+            if (!lane.tryLock(waitMillis, TimeUnit.MILLISECONDS)) {
+                throw new DeadlineExceededException("Tiempo agotado esperando el turno de escritura de " + email);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido esperando el turno de escritura de " + email, e);
+        }
+    }
+
+    /**
+     * Espera aleatoria entre 0 y {@code min(max, base * 2^(intento-1))}, acotada al plazo de la solicitud.
+     */
+    private void backoff(int attempt) {
+        long ceiling = Math.min(properties.getBackoffMax().toMillis(),
+                properties.getBackoffBase().toMillis() << Math.min(attempt - 1, 20));
+        long sleepMillis = RequestDeadline.boundMillis(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        try {
+            Thread.sleep(sleepMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido antes de reintentar la escritura", e);
+        }
+    }
+
+    private static void counter(MeterRegistry registry, String name, AtomicLong value, String description) {
+        FunctionCounter.builder(name, value, AtomicLong::get)
+                .description(description)
+                .register(registry);
+    }
+}
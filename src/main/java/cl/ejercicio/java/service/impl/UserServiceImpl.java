@@ -1,7 +1,11 @@
 package cl.ejercicio.java.service.impl;
 
-import cl.ejercicio.java.config.RegexProperties;
+import cl.ejercicio.java.cache.UserChangedEvent;
+import cl.ejercicio.java.cache.UserReadCoalescer;
+import cl.ejercicio.java.cache.UserResponseCache;
+import cl.ejercicio.java.dto.PhoneDto;
 import cl.ejercicio.java.dto.UserEmailDto;
+import cl.ejercicio.java.dto.UserField;
 import cl.ejercicio.java.entity.Phone;
 import cl.ejercicio.java.entity.Role;
 import cl.ejercicio.java.entity.User;
@@ -10,22 +14,40 @@ import cl.ejercicio.java.exception.UserException;
 import cl.ejercicio.java.mapper.PhoneMapper;
 import cl.ejercicio.java.mapper.RoleMapper;
 import cl.ejercicio.java.mapper.UserMapper;
+import cl.ejercicio.java.repository.PhoneRepository;
+import cl.ejercicio.java.repository.PhoneRow;
 import cl.ejercicio.java.repository.UserRepository;
+import cl.ejercicio.java.repository.UserRoleRow;
+import cl.ejercicio.java.repository.UserRow;
+import cl.ejercicio.java.repository.UserVersion;
+import cl.ejercicio.java.request.UserBatchRequestDto;
 import cl.ejercicio.java.request.UserCreateRequestDto;
 import cl.ejercicio.java.request.UserUpdateRequestDto;
+import cl.ejercicio.java.response.UserBatchResponseDto;
 import cl.ejercicio.java.response.UserResponseDto;
+import cl.ejercicio.java.service.UserRegistrationPipeline;
 import cl.ejercicio.java.service.UserService;
+import cl.ejercicio.java.service.UserWriteLanes;
+import cl.ejercicio.java.validation.UserInputValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * Implementación del servicio de operaciones relacionadas con usuarios.
@@ -37,10 +59,17 @@ import java.util.regex.Pattern;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final PhoneRepository phoneRepository;
     private final RoleMapper roleMapper;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
-    private final RegexProperties regexProperties;
+    private final UserInputValidator userInputValidator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserResponseCache userResponseCache;
+    private final UserReadCoalescer readCoalescer;
+    private final UserWriteLanes writeLanes;
+    private final UserRegistrationPipeline registrationPipeline;
+    private final TransactionTemplate transactionTemplate;
 
     /** {@inheritDoc} */
     @Override
@@ -51,17 +80,21 @@ public class UserServiceImpl implements UserService {
             user.setPassword(encodePassword(user.getPassword()));
         }
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        publishChange(savedUser.getEmail());
+        return savedUser;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>El hash, la verificación del email y la resolución de roles corren en paralelo fuera de
+     * la transacción ({@link UserRegistrationPipeline}); el insert usa una transacción corta.</p>
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User createUser(UserCreateRequestDto userCreateRequestDto) {
-        validateEmailFormat(userCreateRequestDto.getEmail());
-        validatePasswordFormat(userCreateRequestDto.getPassword());
-
-        if (userRepository.existsByEmail(userCreateRequestDto.getEmail())) {
-            throw new InvalidValueException("El correo ya está registrado");
-        }
+        userInputValidator.validateEmail(userCreateRequestDto.getEmail());
+        userInputValidator.validatePassword(userCreateRequestDto.getPassword());
 
         Set<String> rolesToMap;
         if (userCreateRequestDto.getRoles() != null) {
@@ -69,34 +102,64 @@ public class UserServiceImpl implements UserService {
         } else {
             rolesToMap = Set.of("ROLE_USER");
         }
-        Set<Role> resolvedRoles = roleMapper.mapStringsToRoles(rolesToMap);
 
-        User newUser = userMapper.mapToUser(userCreateRequestDto, resolvedRoles);
-        newUser.setPassword(encodePassword(newUser.getPassword()));
+        UserRegistrationPipeline.Prepared prepared = registrationPipeline.prepare(
+                userCreateRequestDto.getEmail(),
+                userCreateRequestDto.getPassword(),
+                () -> new InvalidValueException("El correo ya está registrado"),
+                () -> roleMapper.mapStringsToRoles(rolesToMap),
+                null);
+
+        User newUser = userMapper.mapToUser(userCreateRequestDto, prepared.roles());
+        newUser.setPassword(prepared.passwordHash());
         LocalDateTime now = LocalDateTime.now();
         newUser.setCreated(now);
         newUser.setModified(now);
         newUser.setLastLogin(now);
         newUser.setActive(true);
 
-        return userRepository.save(newUser);
+        return transactionTemplate.execute(status -> {
+            User savedUser = userRepository.save(newUser);
+            publishChange(savedUser.getEmail());
+            return savedUser;
+        });
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Se ejecuta en el turno del usuario ({@link UserWriteLanes}).</p>
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User updateLastLoginAndToken(String email, String token) {
-        User user = findByEmail(email);
-        LocalDateTime now = LocalDateTime.now();
-        user.setLastLogin(now);
-        user.setModified(now);
-        user.setToken(token);
-
-        log.info("Actualizando lastLogin y token para el usuario: {}", email);
-        return userRepository.save(user);
+        userInputValidator.validateEmail(email);
+        return writeLanes.write(email, () -> {
+            User user = loadByEmail(email);
+            LocalDateTime now = LocalDateTime.now();
+            user.setLastLogin(now);
+            user.setModified(now);
+            user.setToken(token);
+
+            log.info("Actualizando lastLogin y token para el usuario: {}", email);
+            User savedUser = userRepository.save(user);
+            publishChange(email);
+            return savedUser;
+        });
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Se ejecuta en el turno del usuario ({@link UserWriteLanes}).</p>
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponseDto updateUser( UserUpdateRequestDto updatedUser) {
-        User existingUser = findByEmail(updatedUser.getEmail());
+        userInputValidator.validateEmail(updatedUser.getEmail());
+        return writeLanes.write(updatedUser.getEmail(), () -> applyUpdate(updatedUser));
+    }
+
+    private UserResponseDto applyUpdate(UserUpdateRequestDto updatedUser) {
+        User existingUser = loadByEmail(updatedUser.getEmail());
 
         if (!existingUser.isActive()) {
             throw new InvalidValueException("Usuario inactivo");
@@ -120,15 +183,24 @@ public class UserServiceImpl implements UserService {
         existingUser.setActive(true);
 
         User savedUser = userRepository.save(existingUser);
+        publishChange(savedUser.getEmail());
         return userMapper.mapToUserResponseDto(savedUser);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Se ejecuta en el turno del email actual ({@link UserWriteLanes}).</p>
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponseDto updateUserEmail(String currentEmail,  UserEmailDto userEmailDto) {
-        validateEmailFormat(currentEmail);
-        validateEmailFormat(userEmailDto.getEmail());
+        userInputValidator.validateEmail(currentEmail);
+        userInputValidator.validateEmail(userEmailDto.getEmail());
+        return writeLanes.write(currentEmail, () -> applyEmailUpdate(currentEmail, userEmailDto));
+    }
 
-        User existingUser = findByEmail(currentEmail);
+    private UserResponseDto applyEmailUpdate(String currentEmail, UserEmailDto userEmailDto) {
+        User existingUser = loadByEmail(currentEmail);
 
         if (userRepository.existsByEmail(userEmailDto.getEmail())) {
             throw new InvalidValueException("El nuevo correo ya está registrado");
@@ -138,39 +210,122 @@ public class UserServiceImpl implements UserService {
         existingUser.setModified(LocalDateTime.now());
 
         User savedUser = userRepository.save(existingUser);
+        publishChange(currentEmail);
+        publishChange(userEmailDto.getEmail());
         return userMapper.mapToUserResponseDto(savedUser);
     }
 
     @Override
     public UserResponseDto getUser(String email) {
-        validateEmailFormat(email);
-        return userMapper.mapToUserResponseDto(findByEmail(email));
+        userInputValidator.validateEmail(email);
+        return userMapper.mapToUserResponseDto(loadByEmail(email));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Teléfonos y roles solo se consultan si fueron solicitados. Las lecturas concurrentes del mismo
+     * usuario y selección se agrupan ({@link UserReadCoalescer}); sin transacción propia, para que las
+     * que esperan no retengan una conexión.</p>
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public UserResponseDto getUser(String email, Set<UserField> fields) {
+        userInputValidator.validateEmail(email);
+        return readCoalescer.load("fields", email, UserField.variant(fields), () ->
+                loadUsers(userRepository.findRows(fields, List.of(email), null), fields, false).stream()
+                        .findFirst()
+                        .orElseThrow(() -> new UserException("Usuario no encontrado con email: " + email)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Las lecturas concurrentes del mismo usuario se agrupan ({@link UserReadCoalescer}).</p>
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public UserVersion getUserVersion(String email) {
+        userInputValidator.validateEmail(email);
+        return readCoalescer.load("version", email, null, () -> userRepository.findVersionByEmail(email)
+                .orElseThrow(() -> new UserException("Usuario no encontrado con email: " + email)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Las claves se deduplican; los emails presentes en {@link UserResponseCache} se sirven desde
+     * el caché y el resto se resuelve con una consulta {@code IN} de usuarios, una de teléfonos
+     * y una de roles, proyectando solo los campos solicitados.</p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public UserBatchResponseDto getUsers(Collection<String> emails, Collection<UUID> ids, Set<UserField> fields) {
+        Set<String> emailKeys = emails != null ? new LinkedHashSet<>(emails) : Set.of();
+        Set<UUID> idKeys = ids != null ? new LinkedHashSet<>(ids) : Set.of();
+        if (emailKeys.isEmpty() && idKeys.isEmpty()) {
+            throw new InvalidValueException("Debe indicar al menos un email o id");
+        }
+        if (emailKeys.size() + idKeys.size() > UserBatchRequestDto.MAX_KEYS) {
+            throw new InvalidValueException("Máximo " + UserBatchRequestDto.MAX_KEYS + " usuarios por solicitud");
+        }
+        emailKeys.forEach(userInputValidator::validateEmail);
+
+        Map<String, UserResponseDto> byEmail = new LinkedHashMap<>();
+        List<String> pendingEmails = new ArrayList<>();
+        for (String email : emailKeys) {
+            userResponseCache.findCachedUser(email)
+                    .ifPresentOrElse(user -> byEmail.put(email, user), () -> pendingEmails.add(email));
+        }
+
+        Map<UUID, UserResponseDto> byId = new LinkedHashMap<>();
+        if (!pendingEmails.isEmpty() || !idKeys.isEmpty()) {
+            for (UserResponseDto user : loadUsers(userRepository.findRows(fields, pendingEmails, idKeys), fields, false)) {
+                byEmail.putIfAbsent(user.getEmail(), user);
+                byId.put(user.getId(), user);
+            }
+        }
+
+        Map<String, UserResponseDto> found = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        emailKeys.forEach(email -> collect(email, byEmail.get(email), found, missing));
+        idKeys.forEach(id -> collect(id.toString(), byId.get(id), found, missing));
+
+        log.info("Consulta masiva: {} solicitados, {} encontrados", emailKeys.size() + idKeys.size(), found.size());
+        return UserBatchResponseDto.builder()
+                .users(found)
+                .missing(missing)
+                .build();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Se resuelve con proyecciones en lugar de entidades: una consulta de usuarios
+     * y, si fueron solicitados, una de teléfonos y una de roles, todas sin filtro.</p>
+     */
     @Override
-    public List<UserResponseDto> getAllUsers() {
+    @Transactional(readOnly = true)
+    public List<UserResponseDto> getAllUsers(Set<UserField> fields) {
         log.info("Obteniendo todos los usuarios");
-        return userRepository.findAll()
-                .stream()
-                .map(userMapper::mapToUserResponseDto)
-                .toList();
+        return loadUsers(userRepository.findRows(fields, null, null), fields, true);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deleteUserByEmail( UserEmailDto dto) {
-        validateEmailFormat(dto.getEmail());
+        userInputValidator.validateEmail(dto.getEmail());
 
-        User user = findByEmail(dto.getEmail());
-        userRepository.delete(user);
+        writeLanes.write(dto.getEmail(), () -> {
+            User user = loadByEmail(dto.getEmail());
+            userRepository.delete(user);
+            publishChange(dto.getEmail());
+            return null;
+        });
 
         log.info("Usuario eliminado correctamente con email: {}", dto.getEmail());
     }
 
     @Override
     public User findByEmail(String email) {
-        validateEmailFormat(email);
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new UserException("Usuario no encontrado con email: " + email));
+        userInputValidator.validateEmail(email);
+        return loadByEmail(email);
     }
 
     @Override
@@ -185,20 +340,67 @@ public class UserServiceImpl implements UserService {
     }
 
     /**
-     * Valída que el formato del email sea correcto.
+     * Completa las proyecciones de usuario con sus teléfonos y roles usando una consulta por tabla,
+     * omitiendo las colecciones que no fueron solicitadas.
+     * <p>Con {@code allUsers} las colecciones se leen con el mismo criterio que las filas (sin filtro)
+     * en lugar de enlazar cada id; si no, los ids vienen de una consulta por email o masiva,
+     * acotada a {@link UserBatchRequestDto#MAX_KEYS}. Las filas de usuarios que no están en {@code rows}
+     * se descartan.</p>
      *
-     * @param email el email a validar
-     * @throws InvalidValueException si el formato es inválido
+     * @param rows columnas escalares de los usuarios
+     * @param fields campos solicitados
+     * @param allUsers true si {@code rows} son todos los usuarios
+     * @return DTOs de respuesta en el mismo orden
      */
-    private void validateEmailFormat(String email) {
-        if (email == null || email.trim().isEmpty() || !Pattern.matches(regexProperties.getEmail(), email)) {
-            throw new InvalidValueException("Formato de correo electrónico no válido");
+    private List<UserResponseDto> loadUsers(List<UserRow> rows, Set<UserField> fields, boolean allUsers) {
+        if (rows.isEmpty()) {
+            return List.of();
         }
+        List<UUID> userIds = allUsers ? List.of() : rows.stream().map(UserRow::getId).toList();
+        Map<UUID, List<PhoneDto>> phones = !fields.contains(UserField.PHONES) ? Map.of()
+                : (allUsers ? phoneRepository.findAllRows() : phoneRepository.findRowsByUserIdIn(userIds)).stream()
+                .collect(Collectors.groupingBy(PhoneRow::getUserId,
+                        Collectors.mapping(PhoneMapper::mapPhoneRowToPhoneDto, Collectors.toList())));
+        Map<UUID, Set<String>> roles = !fields.contains(UserField.ROLES) ? Map.of()
+                : (allUsers ? userRepository.findAllRoleRows() : userRepository.findRoleRowsByUserIdIn(userIds)).stream()
+                .collect(Collectors.groupingBy(UserRoleRow::getUserId,
+                        Collectors.mapping(UserRoleRow::getName, Collectors.toSet())));
+
+        return rows.stream()
+                .map(row -> userMapper.mapToUserResponseDto(row,
+                        phones.getOrDefault(row.getId(), List.of()),
+                        roles.getOrDefault(row.getId(), Set.of())))
+                .toList();
     }
 
-    private void validatePasswordFormat(String password) {
-        if (password == null || !Pattern.matches(regexProperties.getPassword(), password)) {
-            throw new InvalidValueException("Debe tener mínimo 8 caracteres, incluir una mayúscula, minúscula, número y carácter especial");
+    private static void collect(String key, UserResponseDto user, Map<String, UserResponseDto> found, List<String> missing) {
+        if (user != null) {
+            found.put(key, user);
+        } else {
+            missing.add(key);
         }
     }
+
+    /**
+     * Notifica la escritura de un usuario; los listeners (por ejemplo el caché de respuestas)
+     * la reciben tras el commit de la transacción actual.
+     *
+     * @param email email del usuario modificado
+     */
+    private void publishChange(String email) {
+        eventPublisher.publishEvent(new UserChangedEvent(email));
+    }
+
+    /**
+     * Busca un usuario por email sin volver a validar el formato,
+     * para los flujos que ya lo validaron en la misma solicitud.
+     *
+     * @param email email previamente validado
+     * @return el usuario encontrado
+     * @throws UserException si no existe
+     */
+    private User loadByEmail(String email) {
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new UserException("Usuario no encontrado con email: " + email));
+    }
 }
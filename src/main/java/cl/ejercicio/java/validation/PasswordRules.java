@@ -0,0 +1,63 @@
+package cl.ejercicio.java.validation;
+
+/**
+ * Verificador de contraseñas escrito a mano que aplica, en una sola pasada y sin asignar memoria,
+ * las mismas reglas que la expresión regular por defecto {@link #DEFAULT_REGEX}:
+ * <ul>
+ *     <li>Mínimo 8 caracteres.</li>
+ *     <li>Solo letras ASCII, dígitos y los símbolos {@code @$!%*?&}.</li>
+ *     <li>Al menos una minúscula, una mayúscula, un dígito y un símbolo.</li>
+ * </ul>
+ */
+public final class PasswordRules {
+
+    /** Expresión regular equivalente configurada en {@code validation.regex.password}. */
+    public static final String DEFAULT_REGEX = "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&])[A-Za-z\\d@$!%*?&]{8,}$";
+
+    private static final int MIN_LENGTH = 8;
+    private static final int LOWER = 1;
+    private static final int UPPER = 2;
+    private static final int DIGIT = 4;
+    private static final int SYMBOL = 8;
+    private static final int ALL = LOWER | UPPER | DIGIT | SYMBOL;
+
+    // Constructor privado para evitar instanciación
+    private PasswordRules() {
+        throw new UnsupportedOperationException("Esta clase no puede ser instanciada");
+    }
+
+    /**
+     * Evalúa la contraseña contra las reglas por defecto.
+     *
+     * @param password contraseña en texto plano
+     * @return true si cumple todas las reglas
+     */
+    public static boolean matches(CharSequence password) {
+        if (password == null || password.length() < MIN_LENGTH) {
+            return false;
+        }
+        int seen = 0;
+        for (int i = 0, length = password.length(); i < length; i++) {
+            char c = password.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                seen |= LOWER;
+            } else if (c >= 'A' && c <= 'Z') {
+                seen |= UPPER;
+            } else if (c >= '0' && c <= '9') {
+                seen |= DIGIT;
+            } else if (isSymbol(c)) {
+                seen |= SYMBOL;
+            } else {
+                return false;
+            }
+        }
+        return seen == ALL;
+    }
+
+    private static boolean isSymbol(char c) {
+        return switch (c) {
+            case '@', '$', '!', '%', '*', '?', '&' -> true;
+            default -> false;
+        };
+    }
+}
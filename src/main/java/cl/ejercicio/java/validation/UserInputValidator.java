@@ -0,0 +1,68 @@
+package cl.ejercicio.java.validation;
+
+import cl.ejercicio.java.config.RegexProperties;
+import cl.ejercicio.java.exception.InvalidValueException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Valida el formato de email y contraseña usando los patrones precompilados de {@link RegexProperties}.
+ * <p>Si la expresión de contraseña es la configurada por defecto se usa {@link PasswordRules},
+ * que evita los cuatro lookaheads de la expresión regular.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class UserInputValidator {
+
+    private final RegexProperties regexProperties;
+
+    /**
+     * Indica si el email tiene un formato válido.
+     *
+     * @param email el email a validar
+     * @return true si el formato es correcto
+     */
+    public boolean isValidEmail(String email) {
+        return email != null && !email.isBlank() && regexProperties.getEmailPattern().matcher(email).matches();
+    }
+
+    /**
+     * Indica si la contraseña cumple las reglas configuradas.
+     *
+     * @param password la contraseña a validar
+     * @return true si cumple las reglas
+     */
+    public boolean isValidPassword(String password) {
+        if (password == null) {
+            return false;
+        }
+        if (regexProperties.isDefaultPasswordRules()) {
+            return PasswordRules.matches(password);
+        }
+        return regexProperties.getPasswordPattern().matcher(password).matches();
+    }
+
+    /**
+     * Valída que el formato del email sea correcto.
+     *
+     * @param email el email a validar
+     * @throws InvalidValueException si el formato es inválido
+     */
+    public void validateEmail(String email) {
+        if (!isValidEmail(email)) {
+            throw new InvalidValueException("Formato de correo electrónico no válido");
+        }
+    }
+
+    /**
+     * Valída que la contraseña cumpla las reglas configuradas.
+     *
+     * @param password la contraseña a validar
+     * @throws InvalidValueException si no cumple las reglas
+     */
+    public void validatePassword(String password) {
+        if (!isValidPassword(password)) {
+            throw new InvalidValueException("Debe tener mínimo 8 caracteres, incluir una mayúscula, minúscula, número y carácter especial");
+        }
+    }
+}
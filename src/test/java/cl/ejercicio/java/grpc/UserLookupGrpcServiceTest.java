@@ -0,0 +1,254 @@
+package cl.ejercicio.java.grpc;
+
+import cl.ejercicio.java.config.GrpcServerProperties;
+import cl.ejercicio.java.config.JwtProperties;
+import cl.ejercicio.java.dto.PhoneDto;
+import cl.ejercicio.java.grpc.proto.BatchGetUsersRequest;
+import cl.ejercicio.java.grpc.proto.GetUserRequest;
+import cl.ejercicio.java.grpc.proto.IntrospectTokenRequest;
+import cl.ejercicio.java.grpc.proto.TokenIntrospection;
+import cl.ejercicio.java.grpc.proto.User;
+import cl.ejercicio.java.grpc.proto.UserLookupGrpc;
+import cl.ejercicio.java.grpc.proto.UserResult;
+import cl.ejercicio.java.metrics.OperationMetrics;
+import cl.ejercicio.java.repository.UserRepository;
+import cl.ejercicio.java.response.UserBatchResponseDto;
+import cl.ejercicio.java.response.UserResponseDto;
+import cl.ejercicio.java.security.jwt.JwtService;
+import cl.ejercicio.java.security.jwt.TokenIntrospectionService;
+import cl.ejercicio.java.service.UserService;
+import io.grpc.Context;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.stub.MetadataUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Servicio gRPC sobre el transporte in-process de {@link GrpcServerLifecycle}, con
+ * {@link BearerTokenInterceptor} y un {@link JwtService} reales; {@link UserService} y
+ * {@link UserRepository} son dobles para controlar los bloques de {@code BatchGetUsers}.
+ */
+class UserLookupGrpcServiceTest {
+
+    private static final String USER_EMAIL = "user@user.com";
+    private static final String ADMIN_EMAIL = "admin@admin.com";
+
+    private UserService userService;
+    private UserRepository userRepository;
+    private JwtService jwtService;
+    private GrpcServerLifecycle lifecycle;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void startServer() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("ClaveDePruebaParaJwtDeAlMenos32Chars!");
+        jwtProperties.setExpirationMillis(60_000L);
+        jwtProperties.setIssuer("api-user-backend");
+        jwtProperties.setAudience("usuarios-miapp");
+        jwtProperties.setAlgorithm("HS256");
+        jwtService = new JwtService(jwtProperties, new OperationMetrics(new SimpleMeterRegistry()));
+        jwtService.init();
+
+        userService = mock(UserService.class);
+        userRepository = mock(UserRepository.class);
+        UserLookupGrpcService service = new UserLookupGrpcService(userService,
+                new TokenIntrospectionService(jwtService, userRepository));
+
+        GrpcServerProperties properties = new GrpcServerProperties();
+        properties.setPort(0);
+        properties.setInProcessName("user-lookup-" + UUID.randomUUID());
+        lifecycle = new GrpcServerLifecycle(properties, service, new BearerTokenInterceptor(jwtService));
+        lifecycle.start();
+        channel = InProcessChannelBuilder.forName(properties.getInProcessName()).build();
+    }
+
+    @AfterEach
+    void stopServer() {
+        channel.shutdownNow();
+        lifecycle.stop();
+    }
+
+    @Test
+    void getUserReturnsOnlyTheRequestedFields() {
+        when(userService.getUsers(any(), any(), any())).thenReturn(batch(List.of(USER_EMAIL)));
+
+        User user = stub(userToken()).getUser(GetUserRequest.newBuilder()
+                .setEmail(USER_EMAIL)
+                .addFields("email")
+                .addFields("phones")
+                .build());
+
+        assertThat(user.getEmail()).isEqualTo(USER_EMAIL);
+        assertThat(user.getPhonesList()).extracting(phone -> phone.getNumber()).containsExactly("1234567");
+        assertThat(user.getName()).isEmpty();
+        assertThat(user.getRolesList()).isEmpty();
+    }
+
+    @Test
+    void getUserOfAMissingEmailIsNotFound() {
+        when(userService.getUsers(any(), any(), any())).thenReturn(batch(List.of()));
+
+        assertThatThrownBy(() -> stub(userToken()).getUser(GetUserRequest.newBuilder().setEmail("missing@email.com").build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND));
+    }
+
+    @Test
+    void callsWithoutAValidBearerAreRejectedBeforeReachingTheService() {
+        GetUserRequest request = GetUserRequest.newBuilder().setEmail(USER_EMAIL).build();
+
+        assertThatThrownBy(() -> UserLookupGrpc.newBlockingStub(channel).getUser(request))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.UNAUTHENTICATED));
+        assertThatThrownBy(() -> stub("no-es-un-jwt").getUser(request))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.UNAUTHENTICATED));
+        assertThatThrownBy(() -> UserLookupGrpc.newBlockingStub(channel)
+                .introspectToken(IntrospectTokenRequest.newBuilder().setToken(userToken()).build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.UNAUTHENTICATED));
+        verifyNoInteractions(userService, userRepository);
+    }
+
+    @Test
+    void introspectTokenRequiresAnAdminCaller() {
+        IntrospectTokenRequest request = IntrospectTokenRequest.newBuilder().setToken(userToken()).build();
+
+        assertThatThrownBy(() -> stub(userToken()).introspectToken(request))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.PERMISSION_DENIED));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void introspectTokenReportsActiveRevokedAndMalformedTokens() {
+        when(userRepository.findActiveByEmail(USER_EMAIL)).thenReturn(Optional.of(true));
+        when(userRepository.findActiveByEmail("inactive@user.com")).thenReturn(Optional.of(false));
+        UserLookupGrpc.UserLookupBlockingStub admin = stub(jwtService.generateToken(ADMIN_EMAIL, List.of("ROLE_ADMIN")));
+
+        TokenIntrospection active = admin.introspectToken(IntrospectTokenRequest.newBuilder().setToken(userToken()).build());
+        TokenIntrospection inactive = admin.introspectToken(IntrospectTokenRequest.newBuilder()
+                .setToken(jwtService.generateToken("inactive@user.com", List.of("ROLE_USER"))).build());
+        TokenIntrospection malformed = admin.introspectToken(IntrospectTokenRequest.newBuilder().setToken("no-es-un-jwt").build());
+
+        assertThat(active.getActive()).isTrue();
+        assertThat(active.getSubject()).isEqualTo(USER_EMAIL);
+        assertThat(active.getRolesList()).containsExactly("ROLE_USER");
+        assertThat(inactive.getActive()).isFalse();
+        assertThat(inactive.getRevoked()).isTrue();
+        assertThat(inactive.getError()).isEqualTo(TokenIntrospectionService.REASON_USER_INACTIVE);
+        assertThat(malformed.getActive()).isFalse();
+        assertThat(malformed.getError()).isEqualTo(TokenIntrospectionService.REASON_MALFORMED);
+    }
+
+    @Test
+    void batchGetUsersStreamsEveryKeyInOrderChunkByChunk() {
+        List<Integer> chunkSizes = new ArrayList<>();
+        when(userService.getUsers(any(), any(), any())).thenAnswer(invocation -> {
+            Collection<String> emails = invocation.getArgument(0);
+            chunkSizes.add(emails.size());
+            // Solo existen los emails pares
+            return batch(emails.stream().filter(email -> Integer.parseInt(email.substring(0, email.indexOf('@'))) % 2 == 0).toList());
+        });
+        List<String> emails = IntStream.range(0, 250).mapToObj(i -> i + "@test.com").toList();
+
+        List<UserResult> results = new ArrayList<>();
+        stub(userToken()).batchGetUsers(BatchGetUsersRequest.newBuilder().addAllEmails(emails).addFields("email").build())
+                .forEachRemaining(results::add);
+
+        assertThat(chunkSizes).containsExactly(100, 100, 50);
+        assertThat(results).extracting(UserResult::getKey).containsExactlyElementsOf(emails);
+        assertThat(results.get(2).hasUser()).isTrue();
+        assertThat(results.get(2).getUser().getEmail()).isEqualTo("2@test.com");
+        assertThat(results.get(3).hasUser()).isFalse();
+    }
+
+    @Test
+    void batchGetUsersStopsResolvingChunksOnceTheClientCancels() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        when(userService.getUsers(any(), any(), any())).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 2) {
+                // El segundo bloque termina recién cuando la cancelación llegó al servidor
+                CountDownLatch cancelled = new CountDownLatch(1);
+                Context.current().addListener(context -> cancelled.countDown(), Runnable::run);
+                assertThat(cancelled.await(5, TimeUnit.SECONDS)).isTrue();
+            }
+            return batch(invocation.getArgument(0));
+        });
+        List<String> emails = IntStream.range(0, 500).mapToObj(i -> i + "@test.com").toList();
+
+        Context.CancellableContext cancellable = Context.current().withCancellation();
+        Iterator<UserResult> results = cancellable.call(() -> stub(userToken())
+                .batchGetUsers(BatchGetUsersRequest.newBuilder().addAllEmails(emails).build()));
+        assertThat(results.next().getKey()).isEqualTo("0@test.com");
+        cancellable.cancel(null);
+
+        verify(userService, after(500).times(2)).getUsers(any(), any(), any());
+    }
+
+    @Test
+    void batchGetUsersWithoutKeysIsAnInvalidArgument() {
+        Iterator<UserResult> results = stub(userToken()).batchGetUsers(BatchGetUsersRequest.getDefaultInstance());
+
+        assertThatThrownBy(results::hasNext)
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT));
+        verifyNoInteractions(userService);
+    }
+
+    private String userToken() {
+        return jwtService.generateToken(USER_EMAIL, List.of("ROLE_USER"));
+    }
+
+    private UserLookupGrpc.UserLookupBlockingStub stub(String token) {
+        Metadata headers = new Metadata();
+        headers.put(BearerTokenInterceptor.AUTHORIZATION, "Bearer " + token);
+        return UserLookupGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+
+    private static UserBatchResponseDto batch(Collection<String> emails) {
+        Map<String, UserResponseDto> users = new LinkedHashMap<>();
+        for (String email : emails) {
+            users.put(email, UserResponseDto.builder()
+                    .id(UUID.randomUUID())
+                    .name("Usuario " + email)
+                    .email(email)
+                    .phones(List.of(PhoneDto.builder().number("1234567").cityCode("1").countryCode("56").build()))
+                    .roles(Set.of("ROLE_USER"))
+                    .isActive(true)
+                    .build());
+        }
+        return UserBatchResponseDto.builder().users(users).missing(List.of()).build();
+    }
+}
@@ -0,0 +1,68 @@
+package cl.ejercicio.java.jdbc;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+/**
+ * Cuenta las sentencias JDBC de una llamada, para fijar en pruebas de integración cuántas consultas
+ * puede hacer un servicio:
+ * <pre>{@code
+ * UserResponseDto user = QueryCount.assertAtMost(2, () -> userService.getUser(email));
+ * }</pre>
+ * Solo cuenta las sentencias que pasan por el {@code DataSource} de la aplicación
+ * ({@code statement-stats.enabled=true}, por defecto).
+ */
+public final class QueryCount {
+
+    private QueryCount() {
+    }
+
+    /**
+     * Ejecuta {@code operation} en un ámbito de {@link StatementStats} propio.
+     *
+     * @param operation operación a medir
+     * @param <T>       tipo del resultado
+     * @return el resultado y las sentencias que ejecutó
+     * @throws Exception la excepción lanzada por {@code operation}
+     */
+    public static <T> Measured<T> measure(Callable<T> operation) throws Exception {
+        StatementStats stats = StatementStats.open();
+        T result = stats.call(operation);
+        return new Measured<>(result, stats);
+    }
+
+    /**
+     * Ejecuta {@code operation} y falla si ejecutó más de {@code maxStatements} sentencias.
+     *
+     * @param maxStatements sentencias permitidas
+     * @param operation     operación a medir
+     * @param <T>           tipo del resultado
+     * @return el resultado de {@code operation}
+     * @throws AssertionError si se superó {@code maxStatements}, con las sentencias repetidas
+     * @throws Exception      la excepción lanzada por {@code operation}
+     */
+    public static <T> T assertAtMost(int maxStatements, Callable<T> operation) throws Exception {
+        Measured<T> measured = measure(operation);
+        long statements = measured.stats().statements();
+        if (statements > maxStatements) {
+            List<StatementStats.RepeatedStatement> repeated = measured.stats().repeated(2);
+            String detail = repeated.isEmpty() ? "" : repeated.stream()
+                    .map(statement -> statement.executions() + "x " + statement.sql())
+                    .collect(Collectors.joining("\n  ", "\nSentencias repetidas:\n  ", ""));
+            throw new AssertionError("Se esperaban a lo más " + maxStatements + " sentencias y se ejecutaron "
+                    + statements + detail);
+        }
+        return measured.result();
+    }
+
+    /**
+     * Resultado de {@link #measure(Callable)}.
+     *
+     * @param result resultado de la operación
+     * @param stats  sentencias que ejecutó
+     * @param <T>    tipo del resultado
+     */
+    public record Measured<T>(T result, StatementStats stats) {
+    }
+}
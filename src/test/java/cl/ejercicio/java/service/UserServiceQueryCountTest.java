@@ -0,0 +1,95 @@
+package cl.ejercicio.java.service;
+
+import cl.ejercicio.java.dto.UserField;
+import cl.ejercicio.java.jdbc.QueryCount;
+import cl.ejercicio.java.response.UserResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Presupuesto de sentencias JDBC de las lecturas de usuarios. Un N+1 (una consulta por usuario, teléfono
+ * o rol) o una consulta extra hace fallar la prueba con las sentencias repetidas.
+ * <p>Sin {@code @Transactional}: la conexión debe obtenerse dentro del ámbito de {@link QueryCount}
+ * para que sus sentencias se cuenten.</p>
+ */
+@SpringBootTest
+class UserServiceQueryCountTest {
+
+    private static final Set<UserField> ALL_FIELDS = UserField.parse(null);
+    private static final String SEEDED_EMAIL = "user@user.com";
+    private static final String EXTRA_EMAIL_PREFIX = "query-count-";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void deleteExtraUsers() {
+        jdbcTemplate.update("delete from users where email like ?", EXTRA_EMAIL_PREFIX + "%");
+    }
+
+    @Test
+    void getUserReadsUserPhonesAndRolesWithOneStatementEach() throws Exception {
+        UserResponseDto user = QueryCount.assertAtMost(3, () -> userService.getUser(SEEDED_EMAIL, ALL_FIELDS));
+
+        assertThat(user.getPhones()).hasSize(1);
+        assertThat(user.getRoles()).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void getUserSkipsCollectionsThatWereNotRequested() throws Exception {
+        UserResponseDto user = QueryCount.assertAtMost(1, () -> userService.getUser(SEEDED_EMAIL, UserField.parse("email")));
+
+        assertThat(user.getEmail()).isEqualTo(SEEDED_EMAIL);
+    }
+
+    @Test
+    void findByEmailLoadsTheEntityForTheResponseCacheMiss() throws Exception {
+        QueryCount.assertAtMost(3, () -> userService.findByEmail(SEEDED_EMAIL));
+    }
+
+    @Test
+    void getAllUsersStatementsDoNotGrowWithTheNumberOfUsers() throws Exception {
+        int before = userService.getAllUsers(ALL_FIELDS).size();
+        insertUsers(20);
+
+        List<UserResponseDto> users = QueryCount.assertAtMost(3, () -> userService.getAllUsers(ALL_FIELDS));
+
+        assertThat(users).hasSize(before + 20);
+        assertThat(users).allSatisfy(user -> {
+            assertThat(user.getPhones()).isNotEmpty();
+            assertThat(user.getRoles()).isNotEmpty();
+        });
+    }
+
+    @Test
+    void assertAtMostFailsWhenTheBudgetIsExceeded() {
+        assertThatThrownBy(() -> QueryCount.assertAtMost(2, () -> userService.getAllUsers(ALL_FIELDS)))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("a lo más 2 sentencias y se ejecutaron 3");
+    }
+
+    private void insertUsers(int count) {
+        Long roleId = jdbcTemplate.queryForObject("select id from role where name = 'ROLE_USER'", Long.class);
+        for (int i = 0; i < count; i++) {
+            UUID id = UUID.randomUUID();
+            jdbcTemplate.update("insert into users (id, name, email, password, is_active, version) values (?, ?, ?, ?, true, 0)",
+                    id, "Usuario " + i, EXTRA_EMAIL_PREFIX + i + "@test.com", "x");
+            jdbcTemplate.update("insert into phones (number, city_code, country_code, user_id) values (?, '1', '56', ?)",
+                    "555000" + i, id);
+            jdbcTemplate.update("insert into users_roles (users_id, role_id) values (?, ?)", id, roleId);
+        }
+    }
+}